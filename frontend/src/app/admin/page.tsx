@@ -7,7 +7,8 @@ import {
   fetchAllCrimesForAdmin,
   updateCrimeStatus,
   getAdminToken,
-  deleteCrimeAsAdmin,
+  bulkUpdateCrimeStatus,
+  bulkDeleteCrimes,
 } from '@/services/adminService';
 import { Crime } from '@/services/apiService';
 import { useRouter } from 'next/navigation';
@@ -28,6 +29,9 @@ const AdminPage = () => {
   const [searchTerm, setSearchTerm] = useState('');
   const [statusFilter, setStatusFilter] = useState<string>('ALL');
   const [savingStatusId, setSavingStatusId] = useState<number | null>(null);
+  const [selectedIds, setSelectedIds] = useState<number[]>([]);
+  const [bulkStatus, setBulkStatus] = useState<string>('UNDER_INVESTIGATION');
+  const [bulkSaving, setBulkSaving] = useState<boolean>(false);
 
   const fetchCrimes = async () => {
     try {
@@ -81,24 +85,54 @@ const AdminPage = () => {
     }
   };
 
-  const handleStatusChange = async (crimeId: number, status: string) => {
+  const handleStatusChange = async (crimeId: number, status: string, expectedVersion?: number) => {
     try {
       setSavingStatusId(crimeId);
-      const updated = await updateCrimeStatus(crimeId, status);
-
-      if (status === 'RESOLVED') {
-        await deleteCrimeAsAdmin(crimeId);
-        setCrimes((prev) => prev.filter((crime) => crime.id !== crimeId));
-      } else {
-        setCrimes((prev) => prev.map((crime) => (crime.id === crimeId ? { ...crime, status: updated.status } : crime)));
-      }
+      const updated = await updateCrimeStatus(crimeId, status, expectedVersion);
+      // Resolved crimes stay in place; the archive job moves them out once they age
+      setCrimes((prev) => prev.map((crime) => (crime.id === crimeId ? { ...crime, status: updated.status, version: updated.version } : crime)));
     } catch (err: any) {
+      if (err?.response?.status === 409) {
+        await fetchCrimes();
+      }
       setError(err?.response?.data?.error || err?.message || 'Failed to update status');
     } finally {
       setSavingStatusId(null);
     }
   };
 
+  const toggleSelected = (crimeId: number) => {
+    setSelectedIds((prev) => (prev.includes(crimeId) ? prev.filter((id) => id !== crimeId) : [...prev, crimeId]));
+  };
+
+  const handleBulkStatus = async () => {
+    if (selectedIds.length === 0) return;
+    try {
+      setBulkSaving(true);
+      await bulkUpdateCrimeStatus(bulkStatus, selectedIds);
+      setSelectedIds([]);
+      await fetchCrimes();
+    } catch (err: any) {
+      setError(err?.response?.data?.error || err?.message || 'Failed to update selected reports');
+    } finally {
+      setBulkSaving(false);
+    }
+  };
+
+  const handleBulkDelete = async () => {
+    if (selectedIds.length === 0) return;
+    try {
+      setBulkSaving(true);
+      await bulkDeleteCrimes(selectedIds);
+      setCrimes((prev) => prev.filter((crime) => !selectedIds.includes(crime.id)));
+      setSelectedIds([]);
+    } catch (err: any) {
+      setError(err?.response?.data?.error || err?.message || 'Failed to delete selected reports');
+    } finally {
+      setBulkSaving(false);
+    }
+  };
+
   const filteredCrimes = useMemo(() => {
     return crimes.filter((crime) => {
       const matchesStatus = statusFilter === 'ALL' || crime.status === statusFilter;
@@ -227,10 +261,48 @@ const AdminPage = () => {
             </select>
           </div>
 
+          {selectedIds.length > 0 && (
+            <div className="flex flex-col md:flex-row md:items-center gap-3 rounded-xl border border-blue-500/30 bg-blue-500/10 px-4 py-3 text-sm">
+              <span className="text-white/80">{selectedIds.length} selected</span>
+              <select
+                value={bulkStatus}
+                onChange={(e) => setBulkStatus(e.target.value)}
+                className="rounded-lg bg-slate-950 border border-white/10 px-3 py-2 text-xs uppercase tracking-wide"
+              >
+                {statusOptions.map((option) => (
+                  <option key={option.value} value={option.value}>
+                    {option.label}
+                  </option>
+                ))}
+              </select>
+              <button
+                onClick={handleBulkStatus}
+                disabled={bulkSaving}
+                className="rounded-lg border border-white/20 px-3 py-1 text-xs text-white/80 hover:bg-white/10 transition disabled:opacity-50"
+              >
+                Apply status
+              </button>
+              <button
+                onClick={handleBulkDelete}
+                disabled={bulkSaving}
+                className="rounded-lg border border-red-500/40 px-3 py-1 text-xs text-red-200 hover:bg-red-500/10 transition disabled:opacity-50"
+              >
+                Delete selected
+              </button>
+            </div>
+          )}
+
           <div className="overflow-x-auto">
             <table className="w-full text-left text-sm">
               <thead>
                 <tr className="text-white/70 uppercase text-xs">
+                  <th className="py-3">
+                    <input
+                      type="checkbox"
+                      checked={filteredCrimes.length > 0 && filteredCrimes.every((crime) => selectedIds.includes(crime.id))}
+                      onChange={(e) => setSelectedIds(e.target.checked ? filteredCrimes.map((crime) => crime.id) : [])}
+                    />
+                  </th>
                   <th className="py-3">ID</th>
                   <th className="py-3">Type</th>
                   <th className="py-3">Location</th>
@@ -243,20 +315,27 @@ const AdminPage = () => {
               <tbody>
                 {loading && (
                   <tr>
-                    <td colSpan={7} className="py-10 text-center text-white/60">
+                    <td colSpan={8} className="py-10 text-center text-white/60">
                       Loading reports…
                     </td>
                   </tr>
                 )}
                 {!loading && filteredCrimes.length === 0 && (
                   <tr>
-                    <td colSpan={7} className="py-10 text-center text-white/60">
+                    <td colSpan={8} className="py-10 text-center text-white/60">
                       No reports found.
                     </td>
                   </tr>
                 )}
                 {filteredCrimes.map((crime) => (
                   <tr key={crime.id} className="border-t border-white/5">
+                    <td className="py-4">
+                      <input
+                        type="checkbox"
+                        checked={selectedIds.includes(crime.id)}
+                        onChange={() => toggleSelected(crime.id)}
+                      />
+                    </td>
                     <td className="py-4 font-semibold text-white">#{crime.id}</td>
                     <td className="py-4">
                       <div className="font-medium">{crime.crimeType}</div>
@@ -270,7 +349,7 @@ const AdminPage = () => {
                     <td className="py-4">
                       <select
                         value={crime.status || 'PENDING'}
-                        onChange={(e) => handleStatusChange(crime.id, e.target.value)}
+                        onChange={(e) => handleStatusChange(crime.id, e.target.value, crime.version)}
                         className="rounded-lg bg-slate-950 border border-white/10 px-3 py-2 text-xs uppercase tracking-wide"
                       >
                         {statusOptions.map((option) => (
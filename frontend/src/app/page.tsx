@@ -50,10 +50,9 @@ export default function Home() {
         setRecentCrimes(sorted.slice(0, 5));
         setBannerIndex(0);
 
-        const resolved = list.filter((crime) => (crime.status || '').toUpperCase() === 'RESOLVED').length;
-        const active = list.filter(
-          (crime) => (crime.status || 'PENDING').toUpperCase() === 'UNDER_INVESTIGATION'
-        ).length;
+        // Statuses come back as CrimeStatus enum names, so plain equality is enough
+        const resolved = list.filter((crime) => crime.status === 'RESOLVED').length;
+        const active = list.filter((crime) => crime.status === 'UNDER_INVESTIGATION').length;
         setCrimeStats({
           total: list.length,
           active,
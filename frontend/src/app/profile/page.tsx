@@ -5,7 +5,7 @@
 import { useEffect, useState } from 'react';
 import { useRouter } from 'next/navigation';
 import { getCurrentUser, logout } from '@/services/authService';
-import { getUserCrimes, Crime } from '@/services/apiService';
+import { getUserCrimeSummary, getUserCrimesPage, Crime } from '@/services/apiService';
 
 const ProfilePage = () => {
   const router = useRouter();
@@ -48,11 +48,11 @@ const ProfilePage = () => {
   useEffect(() => {
     const loadUserCrimes = async () => {
       try {
-        const crimes = await getUserCrimes();
-        setUserCrimes(crimes);
+        const [summary, recent] = await Promise.all([getUserCrimeSummary(), getUserCrimesPage(0, 4)]);
+        setUserCrimes(recent.content);
         setUserStats({
-          total: crimes.length,
-          active: crimes.filter((crime) => (crime.status || '').toUpperCase() !== 'RESOLVED').length,
+          total: summary.totalCount,
+          active: summary.totalCount - summary.resolvedCount,
         });
       } catch (err) {
         console.error('Unable to load user crimes:', err);
@@ -389,7 +389,7 @@ const ProfilePage = () => {
             <p className="text-white/60">You haven&apos;t reported anything yet. Stay vigilant!</p>
           ) : (
             <div className="space-y-4">
-              {userCrimes.slice(0, 4).map((crime) => (
+              {userCrimes.map((crime) => (
                 <div key={crime.id} className="border border-white/5 rounded-xl p-4 flex flex-col md:flex-row md:items-center md:justify-between gap-4">
                   <div>
                     <p className="text-white font-semibold">{crime.crimeType}</p>
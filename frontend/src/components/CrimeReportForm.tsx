@@ -5,7 +5,7 @@ import mapboxgl from "mapbox-gl";
 import MapboxGeocoder from "@mapbox/mapbox-gl-geocoder";
 import "mapbox-gl/dist/mapbox-gl.css";
 import "@mapbox/mapbox-gl-geocoder/dist/mapbox-gl-geocoder.css";
-import { reportCrime } from "@/services/apiService";
+import { getCrimeTypes, reportCrime } from "@/services/apiService";
 import { getCurrentUser } from "@/services/authService";
 import { useRouter } from "next/navigation";
 
@@ -24,21 +24,14 @@ interface CrimeReportFormProps {
   onSuccess?: () => void;
 }
 
+const OTHER_CRIME_TYPE = 'Other/अन्य';
+
 const CrimeReportForm = ({ onSuccess }: CrimeReportFormProps) => {
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const [location, setLocation] = useState<{ lat: number; lng: number } | null>(null);
   const [address, setAddress] = useState('');
-  const crimeTypeOptions = [
-    'Vandalism/तोड़फोड़',
-    'Kidnapping/अपहरण',
-    'Murder/हत्या',
-    'Theft/चोरी',
-    'Assault/हमला',
-    'Fraud/धोखाधड़ी',
-    'Robbery/डकैती',
-    'Arson/आगजनी',
-  ];
+  const [crimeTypeOptions, setCrimeTypeOptions] = useState<string[]>([]);
 
   const [selectedCrimeType, setSelectedCrimeType] = useState('');
   const [customCrimeType, setCustomCrimeType] = useState('');
@@ -53,6 +46,13 @@ const CrimeReportForm = ({ onSuccess }: CrimeReportFormProps) => {
     setIsClient(true);
   }, []);
 
+  // Crime types come from the server's dictionary; "Other" has its own option below
+  useEffect(() => {
+    getCrimeTypes()
+      .then((types) => setCrimeTypeOptions(types.filter((type) => type !== OTHER_CRIME_TYPE)))
+      .catch(() => setError('Failed to load crime types. Please refresh the page.'));
+  }, []);
+
   useEffect(() => {
     // Check if user is authenticated
     const user = getCurrentUser();
@@ -128,12 +128,11 @@ const CrimeReportForm = ({ onSuccess }: CrimeReportFormProps) => {
         throw new Error('Please select a location on the map');
       }
 
-      const finalCrimeType =
-        selectedCrimeType === 'other'
-          ? customCrimeType.trim()
-          : selectedCrimeType;
+      // Crime types are a fixed dictionary on the server; custom text travels in the description
+      const isOther = selectedCrimeType === 'other';
+      const finalCrimeType = isOther ? OTHER_CRIME_TYPE : selectedCrimeType;
 
-      if (!finalCrimeType) {
+      if (!selectedCrimeType || (isOther && !customCrimeType.trim())) {
         throw new Error('Please select or enter a crime type');
       }
 
@@ -143,7 +142,7 @@ const CrimeReportForm = ({ onSuccess }: CrimeReportFormProps) => {
 
       const crimeData = {
         crimeType: finalCrimeType,
-        description,
+        description: isOther ? `${customCrimeType.trim()}: ${description}` : description,
         location: address || `${location.lat}, ${location.lng}`,
         latitude: location.lat,
         longitude: location.lng
@@ -55,7 +55,18 @@ export const fetchAllCrimesForAdmin = async (): Promise<Crime[]> => {
   return response.data;
 };
 
-export const updateCrimeStatus = async (crimeId: number, status: string): Promise<Crime> => {
+export interface CrimeStatusUpdate {
+  id: number;
+  status: string;
+  version: number;
+  statusUpdatedAt: string;
+}
+
+export const updateCrimeStatus = async (
+  crimeId: number,
+  status: string,
+  expectedVersion?: number,
+): Promise<CrimeStatusUpdate> => {
   const token = getAdminToken();
   if (!token) throw new Error('Missing admin token');
 
@@ -63,7 +74,7 @@ export const updateCrimeStatus = async (crimeId: number, status: string): Promis
     `${ADMIN_API_URL}/crimes/status`,
     {},
     {
-      params: { crimeId, status },
+      params: { crimeId, status, expectedVersion },
       headers: {
         'X-Admin-Token': token,
       },
@@ -85,3 +96,46 @@ export const deleteCrimeAsAdmin = async (crimeId: number): Promise<void> => {
   invalidateCrimeCaches();
 };
 
+export interface BulkCrimeFilter {
+  status?: string;
+  crimeType?: string;
+  reportedBefore?: string;
+}
+
+export const bulkUpdateCrimeStatus = async (
+  status: string,
+  ids?: number[],
+  filter?: BulkCrimeFilter,
+): Promise<number> => {
+  const token = getAdminToken();
+  if (!token) throw new Error('Missing admin token');
+
+  const response = await axios.post(
+    `${ADMIN_API_URL}/crimes/bulk/status`,
+    { ids, filter, status },
+    {
+      headers: {
+        'X-Admin-Token': token,
+      },
+    },
+  );
+  invalidateCrimeCaches();
+  return response.data?.updated ?? 0;
+};
+
+export const bulkDeleteCrimes = async (ids?: number[], filter?: BulkCrimeFilter): Promise<number> => {
+  const token = getAdminToken();
+  if (!token) throw new Error('Missing admin token');
+
+  const response = await axios.post(
+    `${ADMIN_API_URL}/crimes/bulk/delete`,
+    { ids, filter },
+    {
+      headers: {
+        'X-Admin-Token': token,
+      },
+    },
+  );
+  invalidateCrimeCaches();
+  return response.data?.deleted ?? 0;
+};
@@ -52,18 +52,31 @@ export const invalidateCrimeCaches = () => {
   });
 };
 
+// Signed token the backend returns on writes (see ReadYourWritesTracker)
+const LAST_WRITE_HEADER = 'X-Last-Write';
+const LAST_WRITE_KEY = 'lastWriteToken';
+
 // Add auth token to requests
 axios.interceptors.request.use((config) => {
   const user = getCurrentUser();
   if (user?.token) {
     config.headers.Authorization = `Bearer ${user.token}`;
   }
+  // Echo the server's last-write token so reads right after a write stay on the primary
+  const lastWrite = localStorage.getItem(LAST_WRITE_KEY);
+  if (lastWrite) {
+    config.headers[LAST_WRITE_HEADER] = lastWrite;
+  }
   return config;
 });
 
 // Add response caching
 axios.interceptors.response.use(
   (response) => {
+    const lastWrite = response.headers[LAST_WRITE_HEADER.toLowerCase()];
+    if (lastWrite) {
+      localStorage.setItem(LAST_WRITE_KEY, lastWrite);
+    }
     if (response.config.method?.toLowerCase() === 'get') {
       const cacheKey = response.config.url;
       if (cacheKey) {
@@ -94,6 +107,7 @@ export interface Crime {
   createdAt?: string;
   updatedAt?: string;
   status?: string;
+  version?: number;
   reportedBy?: {
     id: number;
     name?: string;
@@ -208,6 +222,72 @@ export const getUserCrimes = async (): Promise<Crime[]> => {
   }
 };
 
+export interface CrimeStatusEvent {
+  id: number;
+  crimeId: number;
+  status: string;
+  changedBy?: string;
+  changedAt: string;
+  crimeVersion: number;
+}
+
+// Get the active crime types accepted when reporting a crime
+export const getCrimeTypes = async (): Promise<string[]> => {
+  const response = await axios.get(`${API_URL}/crimes/types`);
+  return response.data;
+};
+
+// Get the status history of a crime, oldest first
+export const getCrimeHistory = async (crimeId: number): Promise<CrimeStatusEvent[]> => {
+  const response = await axios.get(`${API_URL}/crimes/${crimeId}/history`);
+  return response.data;
+};
+
+export interface UserCrimeSummary {
+  userId: number;
+  totalCount: number;
+  pendingCount: number;
+  underInvestigationCount: number;
+  resolvedCount: number;
+  otherCount: number;
+  latestCrimeId?: number;
+  latestReportedAt?: string;
+}
+
+export interface CrimePage {
+  content: Crime[];
+  page: number;
+  size: number;
+  hasNext: boolean;
+}
+
+// Get the current user's report counts (maintained server-side)
+export const getUserCrimeSummary = async (): Promise<UserCrimeSummary> => {
+  const user = getCurrentUser();
+  if (!user) throw new Error('User not authenticated');
+
+  const url = `${API_URL}/crimes/user/${user.id}/summary`;
+  const cachedData = getFromCache(url);
+  if (cachedData) {
+    return cachedData;
+  }
+
+  const response = await axios.get(url);
+  setInCache(url, response.data);
+  return response.data;
+};
+
+// Get one page of the current user's crimes, newest first
+export const getUserCrimesPage = async (page = 0, size = 20): Promise<CrimePage> => {
+  const user = getCurrentUser();
+  if (!user) throw new Error('User not authenticated');
+
+  const response = await axios.get(`${API_URL}/crimes/user/${user.id}/page`, {
+    params: { page, size },
+  });
+  return response.data;
+};
+
 // Delete a crime
 export const deleteCrime = async (crimeId: number): Promise<void> => {
   try {
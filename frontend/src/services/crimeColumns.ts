@@ -0,0 +1,77 @@
+import axios from 'axios';
+import API_BASE_URL from './config';
+
+// Compact columnar crime list served for `Accept: application/x-crime-columns`.
+// Layout is documented in CrimeColumnarHttpMessageConverter on the backend.
+export const CRIME_COLUMNS_MEDIA_TYPE = 'application/x-crime-columns';
+
+export interface CrimeColumns {
+  count: number;
+  crimeTypes: string[];
+  statuses: string[];
+  ids: Float64Array; // int64 on the wire, exact up to 2^53
+  latitudes: Float32Array;
+  longitudes: Float32Array;
+  reportedAt: Uint32Array; // epoch seconds, UTC
+  typeCodes: Uint16Array;
+  statusCodes: Uint8Array;
+}
+
+const readDictionary = (view: DataView, bytes: Uint8Array, offset: number): [string[], number] => {
+  const decoder = new TextDecoder();
+  const size = view.getUint16(offset, true);
+  offset += 2;
+  const values: string[] = [];
+  for (let i = 0; i < size; i++) {
+    const length = view.getUint16(offset, true);
+    offset += 2;
+    values.push(decoder.decode(bytes.subarray(offset, offset + length)));
+    offset += length;
+  }
+  return [values, offset];
+};
+
+export const decodeCrimeColumns = (buffer: ArrayBuffer): CrimeColumns => {
+  const view = new DataView(buffer);
+  const bytes = new Uint8Array(buffer);
+  if (new TextDecoder().decode(bytes.subarray(0, 4)) !== 'CRC1') {
+    throw new Error('Not a crime columns payload');
+  }
+  const count = view.getUint32(4, true);
+  let offset = 8;
+  let crimeTypes: string[];
+  let statuses: string[];
+  [crimeTypes, offset] = readDictionary(view, bytes, offset);
+  [statuses, offset] = readDictionary(view, bytes, offset);
+  offset = (offset + 7) & ~7;
+
+  const ids = new Float64Array(count);
+  for (let i = 0; i < count; i++) {
+    ids[i] = view.getUint32(offset + i * 8, true) + view.getInt32(offset + i * 8 + 4, true) * 2 ** 32;
+  }
+  offset += count * 8;
+
+  // Remaining columns are aligned, so they are wrapped in place (little-endian hosts)
+  const latitudes = new Float32Array(buffer, offset, count);
+  offset += count * 4;
+  const longitudes = new Float32Array(buffer, offset, count);
+  offset += count * 4;
+  const reportedAt = new Uint32Array(buffer, offset, count);
+  offset += count * 4;
+  const typeCodes = new Uint16Array(buffer, offset, count);
+  offset += count * 2;
+  const statusCodes = new Uint8Array(buffer, offset, count);
+
+  return { count, crimeTypes, statuses, ids, latitudes, longitudes, reportedAt, typeCodes, statusCodes };
+};
+
+// Fetch all crimes (or nearby ones) as columns; intended for map layers with many points
+export const getCrimeColumns = async (nearby?: { latitude: number; longitude: number }): Promise<CrimeColumns> => {
+  const url = nearby ? `${API_BASE_URL}/crimes/nearby` : `${API_BASE_URL}/crimes`;
+  const response = await axios.get(url, {
+    params: nearby,
+    responseType: 'arraybuffer',
+    headers: { Accept: CRIME_COLUMNS_MEDIA_TYPE },
+  });
+  return decodeCrimeColumns(response.data);
+};
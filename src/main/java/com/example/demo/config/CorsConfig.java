@@ -9,6 +9,8 @@ import org.springframework.web.filter.CorsFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.example.demo.service.ReadYourWritesTracker;
+
 @Configuration
 public class CorsConfig implements WebMvcConfigurer {
 
@@ -21,6 +23,7 @@ public class CorsConfig implements WebMvcConfigurer {
             )
             .allowedMethods("*")
             .allowedHeaders("*")
+            .exposedHeaders(ReadYourWritesTracker.LAST_WRITE_HEADER)
             .allowCredentials(true)
             .maxAge(3600);
     }
@@ -34,6 +37,7 @@ public class CorsConfig implements WebMvcConfigurer {
 
         config.addAllowedMethod("*");
         config.addAllowedHeader("*");
+        config.addExposedHeader(ReadYourWritesTracker.LAST_WRITE_HEADER);
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,213 @@
+package com.example.demo.config;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.example.demo.model.Crime;
+
+/**
+ * Writes a list of crimes as parallel little-endian column arrays for map
+ * clients that send {@code Accept: application/x-crime-columns}. JSON stays the
+ * default for every other Accept header.
+ *
+ * Layout:
+ * <pre>
+ *   "CRC1"            4 bytes magic
+ *   uint32            row count n
+ *   uint16 + strings  crime type dictionary (uint16 length + UTF-8 each)
+ *   uint16 + strings  status dictionary
+ *   zero padding to an 8-byte boundary
+ *   int64[n]          ids
+ *   float32[n]        latitudes (NaN when missing)
+ *   float32[n]        longitudes (NaN when missing)
+ *   uint32[n]         reportedAt, epoch seconds (0 when missing; outside 1970-2106 is an error)
+ *   uint16[n]         crime type codes into the type dictionary
+ *   uint8[n]          status codes into the status dictionary
+ * </pre>
+ * Columns are ordered by element width so every array starts naturally aligned
+ * and can be wrapped in a typed array without copying. reportedAt is stored as
+ * server-local time, so it is converted to epoch seconds in the server's zone.
+ *
+ * Endpoints declared as {@code List<Crime>} are matched by type. Bodies of
+ * {@code ResponseEntity<?>} endpoints only reveal their element type at write
+ * time, so those are accepted when the body is a collection and rejected while
+ * writing if it holds anything other than crimes.
+ */
+public class CrimeColumnarHttpMessageConverter extends AbstractGenericHttpMessageConverter<Collection<Crime>> {
+
+    public static final MediaType CRIME_COLUMNS = MediaType.parseMediaType("application/x-crime-columns");
+
+    private static final long MAX_UINT32 = 0xFFFFFFFFL;
+    private static final byte[] MAGIC = "CRC1".getBytes(StandardCharsets.US_ASCII);
+
+    public CrimeColumnarHttpMessageConverter() {
+        super(CRIME_COLUMNS);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!supports(clazz) || !canWrite(mediaType)) {
+            return false;
+        }
+        if (!(type instanceof ParameterizedType parameterized)) {
+            // Raw collection or a ResponseEntity<?> body; elements are checked while writing
+            return true;
+        }
+        Type[] arguments = parameterized.getActualTypeArguments();
+        return arguments.length == 1 && holdsCrimes(arguments[0]);
+    }
+
+    private static boolean holdsCrimes(Type elementType) {
+        if (elementType instanceof WildcardType wildcard) {
+            Type[] upperBounds = wildcard.getUpperBounds();
+            return upperBounds.length == 1
+                    && (upperBounds[0] == Object.class || holdsCrimes(upperBounds[0]));
+        }
+        return elementType instanceof Class<?> elementClass && Crime.class.isAssignableFrom(elementClass);
+    }
+
+    @Override
+    protected void writeInternal(Collection<Crime> crimes, Type type,
+                                 HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        int n = crimes.size();
+        Map<String, Integer> types = new LinkedHashMap<>();
+        Map<String, Integer> statuses = new LinkedHashMap<>();
+        int[] typeCodes = new int[n];
+        int[] statusCodes = new int[n];
+        int row = 0;
+        for (Object element : crimes) {
+            if (!(element instanceof Crime crime)) {
+                throw new HttpMessageNotWritableException("Crime columns can only encode crimes, got "
+                        + (element != null ? element.getClass().getName() : "null"));
+            }
+            typeCodes[row] = code(types, crime.getCrimeType(), 0xFFFE);
+            statusCodes[row] = code(statuses, crime.getStatus() != null ? crime.getStatus().name() : null, 0xFF);
+            row++;
+        }
+
+        List<byte[]> typeNames = utf8(types);
+        List<byte[]> statusNames = utf8(statuses);
+        int header = MAGIC.length + 4 + dictionarySize(typeNames) + dictionarySize(statusNames);
+        int padded = (header + 7) & ~7;
+        ByteBuffer buffer = ByteBuffer.allocate(padded + n * (8 + 4 + 4 + 4 + 2 + 1))
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.put(MAGIC).putInt(n);
+        writeDictionary(buffer, typeNames);
+        writeDictionary(buffer, statusNames);
+        buffer.position(padded);
+
+        for (Crime crime : crimes) {
+            buffer.putLong(crime.getId() != null ? crime.getId() : 0L);
+        }
+        for (Crime crime : crimes) {
+            buffer.putFloat(crime.getLatitude() != null ? crime.getLatitude().floatValue() : Float.NaN);
+        }
+        for (Crime crime : crimes) {
+            buffer.putFloat(crime.getLongitude() != null ? crime.getLongitude().floatValue() : Float.NaN);
+        }
+        for (Crime crime : crimes) {
+            buffer.putInt((int) reportedAtSeconds(crime));
+        }
+        for (int code : typeCodes) {
+            buffer.putShort((short) code);
+        }
+        for (int code : statusCodes) {
+            buffer.put((byte) code);
+        }
+
+        outputMessage.getHeaders().setContentLength(buffer.capacity());
+        outputMessage.getBody().write(buffer.array());
+    }
+
+    @Override
+    protected Collection<Crime> readInternal(Class<? extends Collection<Crime>> clazz,
+                                             HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("Crime columns are a response-only format", inputMessage);
+    }
+
+    @Override
+    public Collection<Crime> read(Type type, Class<?> contextClass,
+                                  HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("Crime columns are a response-only format", inputMessage);
+    }
+
+    // reportedAt is server-local time; the column is uint32 seconds, so anything outside it is refused
+    private static long reportedAtSeconds(Crime crime) {
+        if (crime.getReportedAt() == null) {
+            return 0L;
+        }
+        long seconds = crime.getReportedAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+        if (seconds < 0 || seconds > MAX_UINT32) {
+            throw new HttpMessageNotWritableException(
+                    "reportedAt of crime " + crime.getId() + " does not fit the uint32 epoch-seconds column");
+        }
+        return seconds;
+    }
+
+    private static int code(Map<String, Integer> dictionary, String value, int maxCode) {
+        String key = value != null ? value : "";
+        Integer existing = dictionary.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int next = dictionary.size();
+        if (next > maxCode) {
+            throw new HttpMessageNotWritableException("Too many distinct values for crime columns: " + next);
+        }
+        dictionary.put(key, next);
+        return next;
+    }
+
+    private static List<byte[]> utf8(Map<String, Integer> dictionary) {
+        List<byte[]> names = new ArrayList<>(dictionary.size());
+        dictionary.keySet().forEach(name -> names.add(name.getBytes(StandardCharsets.UTF_8)));
+        return names;
+    }
+
+    private static int dictionarySize(List<byte[]> names) {
+        int size = 2;
+        for (byte[] name : names) {
+            size += 2 + name.length;
+        }
+        return size;
+    }
+
+    private static void writeDictionary(ByteBuffer buffer, List<byte[]> names) {
+        buffer.putShort((short) names.size());
+        for (byte[] name : names) {
+            buffer.putShort((short) name.length).put(name);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    // Appended after Jackson so JSON stays the default for Accept: */*
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new CrimeColumnarHttpMessageConverter());
+    }
+}
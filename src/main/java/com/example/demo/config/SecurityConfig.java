@@ -15,6 +15,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.example.demo.service.ReadYourWritesTracker;
+
 @Configuration
 public class SecurityConfig {
 
@@ -53,6 +55,8 @@ public class SecurityConfig {
 
         configuration.setAllowedMethods(Arrays.asList("*"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // Lets the browser read the last-write token for read-your-writes routing
+        configuration.setExposedHeaders(Arrays.asList(ReadYourWritesTracker.LAST_WRITE_HEADER));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source =
@@ -17,9 +17,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.exception.StaleCrimeVersionException;
 import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.model.CrimeStatusEvent;
+import com.example.demo.model.CrimeType;
 import com.example.demo.service.AdminAuthService;
+import com.example.demo.service.CrimeArchiveService;
+import com.example.demo.service.CrimeBulkService;
 import com.example.demo.service.CrimeService;
+import com.example.demo.service.CrimeTypeDictionary;
+
+import lombok.Data;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -27,10 +36,25 @@ public class AdminController {
 
     private final AdminAuthService adminAuthService;
     private final CrimeService crimeService;
+    private final CrimeArchiveService crimeArchiveService;
+    private final CrimeBulkService crimeBulkService;
+    private final CrimeTypeDictionary crimeTypeDictionary;
 
-    public AdminController(AdminAuthService adminAuthService, CrimeService crimeService) {
+    public AdminController(AdminAuthService adminAuthService, CrimeService crimeService,
+                           CrimeArchiveService crimeArchiveService, CrimeBulkService crimeBulkService,
+                           CrimeTypeDictionary crimeTypeDictionary) {
         this.adminAuthService = adminAuthService;
         this.crimeService = crimeService;
+        this.crimeArchiveService = crimeArchiveService;
+        this.crimeBulkService = crimeBulkService;
+        this.crimeTypeDictionary = crimeTypeDictionary;
+    }
+
+    @Data
+    public static class BulkRequest {
+        private List<Long> ids;
+        private CrimeBulkService.Filter filter;
+        private String status;
     }
 
     @PostMapping("/login")
@@ -55,27 +79,49 @@ public class AdminController {
     }
 
     @GetMapping("/crimes")
-    public ResponseEntity<?> getAllCrimes(@RequestHeader("X-Admin-Token") String token) {
+    public ResponseEntity<?> getAllCrimes(
+            @RequestHeader("X-Admin-Token") String token,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         if (!adminAuthService.isTokenValid(token)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid admin token"));
         }
-        List<Crime> crimes = crimeService.getAllCrimes();
+        List<Crime> crimes = includeArchived
+                ? crimeService.getAllCrimesIncludingArchive()
+                : crimeService.getAllCrimes();
         return ResponseEntity.ok(crimes);
     }
 
+    @PostMapping("/crimes/archive")
+    public ResponseEntity<?> archiveResolvedCrimes(@RequestHeader("X-Admin-Token") String token) {
+        if (!adminAuthService.isTokenValid(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid admin token"));
+        }
+        int archived = crimeArchiveService.archiveResolvedCrimes();
+        return ResponseEntity.ok(Map.of("archived", archived));
+    }
+
     @PatchMapping("/crimes/status")
     public ResponseEntity<?> updateCrimeStatus(
             @RequestHeader("X-Admin-Token") String token,
             @RequestParam Long crimeId,
-            @RequestParam String status) {
+            @RequestParam String status,
+            @RequestParam(required = false) Long expectedVersion) {
 
         if (!adminAuthService.isTokenValid(token)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid admin token"));
         }
 
         try {
-            Crime updatedCrime = crimeService.updateCrimeStatus(crimeId, status);
-            return ResponseEntity.ok(updatedCrime);
+            CrimeStatusEvent event = crimeService.updateCrimeStatus(
+                    crimeId, CrimeStatus.parse(status), adminAuthService.getAdminUsername(token), expectedVersion);
+            Map<String, Object> response = new HashMap<>();
+            response.put("id", event.getCrimeId());
+            response.put("status", event.getStatus());
+            response.put("version", event.getCrimeVersion());
+            response.put("statusUpdatedAt", event.getChangedAt());
+            return ResponseEntity.ok(response);
+        } catch (StaleCrimeVersionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
         }
@@ -96,5 +142,79 @@ public class AdminController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
         }
     }
-}
 
+    @PostMapping("/crimes/bulk/status")
+    public ResponseEntity<?> bulkUpdateStatus(
+            @RequestHeader("X-Admin-Token") String token,
+            @RequestBody BulkRequest request) {
+        if (!adminAuthService.isTokenValid(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid admin token"));
+        }
+        if (request.getStatus() == null || request.getStatus().isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "status is required"));
+        }
+
+        try {
+            int updated = crimeBulkService.updateStatus(request.getIds(), request.getFilter(),
+                    CrimeStatus.parse(request.getStatus()), adminAuthService.getAdminUsername(token));
+            return ResponseEntity.ok(Map.of("updated", updated));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/crimes/bulk/delete")
+    public ResponseEntity<?> bulkDelete(
+            @RequestHeader("X-Admin-Token") String token,
+            @RequestBody BulkRequest request) {
+        if (!adminAuthService.isTokenValid(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid admin token"));
+        }
+
+        try {
+            int deleted = crimeBulkService.delete(request.getIds(), request.getFilter());
+            return ResponseEntity.ok(Map.of("deleted", deleted));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/crime-types")
+    public ResponseEntity<?> getCrimeTypes(@RequestHeader("X-Admin-Token") String token) {
+        if (!adminAuthService.isTokenValid(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid admin token"));
+        }
+        return ResponseEntity.ok(crimeTypeDictionary.getAll());
+    }
+
+    @PostMapping("/crime-types")
+    public ResponseEntity<?> addCrimeType(
+            @RequestHeader("X-Admin-Token") String token,
+            @RequestBody Map<String, String> body) {
+        if (!adminAuthService.isTokenValid(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid admin token"));
+        }
+
+        try {
+            CrimeType type = crimeTypeDictionary.addType(body.get("name"));
+            return ResponseEntity.ok(type);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/crime-types/{typeId}")
+    public ResponseEntity<?> deactivateCrimeType(
+            @RequestHeader("X-Admin-Token") String token,
+            @PathVariable Short typeId) {
+        if (!adminAuthService.isTokenValid(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid admin token"));
+        }
+
+        try {
+            return ResponseEntity.ok(crimeTypeDictionary.deactivateType(typeId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -1,30 +1,76 @@
 package com.example.demo.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.model.CrimeStatusEvent;
 import com.example.demo.model.User;
+import com.example.demo.model.UserCrimeSummary;
 import com.example.demo.service.CrimeService;
+import com.example.demo.service.CrimeTypeDictionary;
+import com.example.demo.service.UserCrimeSummaryService;
 
 @RestController
 @RequestMapping("/api/crimes")
 public class CrimeController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_NEARBY_RESULTS = 1000;
+
     private final CrimeService crimeService;
+    private final UserCrimeSummaryService summaryService;
+    private final CrimeTypeDictionary crimeTypeDictionary;
 
     @Autowired
-    public CrimeController(CrimeService crimeService) {
+    public CrimeController(CrimeService crimeService, UserCrimeSummaryService summaryService,
+                           CrimeTypeDictionary crimeTypeDictionary) {
         this.crimeService = crimeService;
+        this.summaryService = summaryService;
+        this.crimeTypeDictionary = crimeTypeDictionary;
     }
 
     @GetMapping
-    public List<Crime> getAllCrimes() {
-        return crimeService.getAllCrimes();
+    public List<Crime> getAllCrimes(@RequestParam(defaultValue = "false") boolean includeArchived) {
+        return includeArchived ? crimeService.getAllCrimesIncludingArchive() : crimeService.getAllCrimes();
+    }
+
+    @GetMapping("/types")
+    public List<String> getCrimeTypes() {
+        return crimeTypeDictionary.getActiveNames();
+    }
+
+    @GetMapping("/stats")
+    public Map<String, Object> getCrimeStats() {
+        return crimeService.getCrimeStats();
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterCrimes(@RequestParam(required = false) String status,
+                                          @RequestParam(required = false) String crimeType,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
+        CrimeStatus parsedStatus;
+        try {
+            parsedStatus = status != null ? CrimeStatus.parse(status) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Slice<Crime> slice = crimeService.getCrimesMatching(parsedStatus, crimeType, Math.max(page, 0), pageSize);
+        return ResponseEntity.ok(Map.of(
+            "content", slice.getContent(),
+            "page", slice.getNumber(),
+            "size", slice.getSize(),
+            "hasNext", slice.hasNext()
+        ));
     }
 
     @GetMapping("/{id}")
@@ -36,11 +82,19 @@ public class CrimeController {
         return ResponseEntity.ok(crime);
     }
 
+    @GetMapping("/{id}/history")
+    public List<CrimeStatusEvent> getCrimeHistory(@PathVariable Long id) {
+        return crimeService.getStatusHistory(id);
+    }
+
     @PostMapping
     public ResponseEntity<?> createCrime(@RequestBody Crime crime) {
         if (crime.getLatitude() == null || crime.getLongitude() == null) {
             return ResponseEntity.badRequest().body("Geolocation is required to report a crime.");
         }
+        if (!crimeTypeDictionary.isActive(crime.getCrimeType())) {
+            return ResponseEntity.badRequest().body("Unknown crime type: " + crime.getCrimeType());
+        }
 
         Crime savedCrime = crimeService.saveCrime(crime);
         return ResponseEntity.ok(savedCrime);
@@ -54,15 +108,43 @@ public class CrimeController {
 
     // ✅ Fixed: Get crimes by user
     @GetMapping("/user/{userId}")
-    public List<Crime> getCrimesByUser(@PathVariable Long userId) {
+    public List<Crime> getCrimesByUser(@PathVariable Long userId,
+                                       @RequestParam(defaultValue = "false") boolean includeArchived) {
+        User user = new User();
+        user.setId(userId);
+        return includeArchived
+                ? crimeService.getCrimesByUserIncludingArchive(user)
+                : crimeService.getCrimesByUser(user);
+    }
+
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<UserCrimeSummary> getUserCrimeSummary(@PathVariable Long userId) {
+        return summaryService.getSummary(userId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/user/{userId}/page")
+    public Map<String, Object> getCrimesByUserPage(@PathVariable Long userId,
+                                                   @RequestParam(defaultValue = "0") int page,
+                                                   @RequestParam(defaultValue = "20") int size) {
         User user = new User();
         user.setId(userId);
-        return crimeService.getCrimesByUser(user);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Slice<Crime> slice = crimeService.getCrimesByUserPage(user, Math.max(page, 0), pageSize);
+        return Map.of(
+            "content", slice.getContent(),
+            "page", slice.getNumber(),
+            "size", slice.getSize(),
+            "hasNext", slice.hasNext()
+        );
     }
 
     // ✅ Fixed: Corrected method to match CrimeService.java
     @GetMapping("/nearby")
-    public List<Crime> getNearbyCrimes(@RequestParam double latitude, @RequestParam double longitude) {
-        return crimeService.getCrimesWithinRadius(latitude, longitude); // ✅ Matching method name
+    public List<Crime> getNearbyCrimes(@RequestParam double latitude, @RequestParam double longitude,
+                                       @RequestParam(defaultValue = "100") int limit) {
+        int bounded = Math.max(1, Math.min(limit, MAX_NEARBY_RESULTS));
+        return crimeService.getCrimesWithinRadius(latitude, longitude, bounded); // ✅ Matching method name
     }
 }
@@ -0,0 +1,7 @@
+package com.example.demo.exception;
+
+public class StaleCrimeVersionException extends RuntimeException {
+    public StaleCrimeVersionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cold copy of a crime that has been resolved for longer than the configured
+ * archive age. Rows keep their original id so links to them stay stable.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "crimes_archive")
+public class ArchivedCrime {
+
+    @Id
+    private Long id;
+
+    @Convert(converter = CrimeTypeConverter.class)
+    @Column(name = "crime_type_id")
+    private String crimeType;
+
+    private String description;
+    private String location;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    @Column(name = "reported_at", nullable = false, updatable = false)
+    private LocalDateTime reportedAt;
+
+    @Column(name = "status_code", nullable = false)
+    private CrimeStatus status;
+
+    @Column(name = "status_updated_at")
+    private LocalDateTime statusUpdatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @ManyToOne
+    @JoinColumn(name = "reported_by", nullable = false)
+    private User reportedBy;
+
+    // Detached Crime view so archive reads share the hot-set response shape
+    public Crime toCrime() {
+        Crime crime = new Crime();
+        crime.setId(id);
+        crime.setCrimeType(crimeType);
+        crime.setDescription(description);
+        crime.setLocation(location);
+        crime.setLatitude(latitude);
+        crime.setLongitude(longitude);
+        crime.setReportedAt(reportedAt);
+        crime.setStatus(status);
+        crime.setStatusUpdatedAt(statusUpdatedAt);
+        crime.setReportedBy(reportedBy);
+        return crime;
+    }
+}
@@ -3,14 +3,17 @@ package com.example.demo.model;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,14 +22,22 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "crimes")
+@Table(name = "crimes", indexes = {
+        @Index(name = "idx_crimes_reported_by", columnList = "reported_by, id"),
+        @Index(name = "idx_crimes_status", columnList = "status_code, status_updated_at"),
+        @Index(name = "idx_crimes_type", columnList = "crime_type_id")
+})
 public class Crime {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Dictionary-encoded: stored as the crime_types id, exposed as the type name
+    @Convert(converter = CrimeTypeConverter.class)
+    @Column(name = "crime_type_id")
     private String crimeType;
+
     private String description;
     private String location;
 
@@ -39,8 +50,17 @@ public class Crime {
     @Column(name = "reported_at", nullable = false, updatable = false)
     private LocalDateTime reportedAt;
 
+    @Column(name = "status_code", nullable = false)
+    private CrimeStatus status = CrimeStatus.PENDING;
+
+    // Set whenever the status changes; drives archival of long-resolved crimes
+    @Column(name = "status_updated_at")
+    private LocalDateTime statusUpdatedAt;
+
+    // Optimistic lock; bumped by every status transition
+    @Version
     @Column(nullable = false)
-    private String status = "PENDING";
+    private long version;
 
     @ManyToOne
     @JoinColumn(name = "reported_by", nullable = false)
@@ -50,7 +70,7 @@ public class Crime {
     protected void onCreate() {
         this.reportedAt = LocalDateTime.now();
         if (this.status == null) {
-            this.status = "PENDING";
+            this.status = CrimeStatus.PENDING;
         }
     }
 
@@ -76,11 +96,11 @@ public class Crime {
         this.longitude = longitude;
     }
 
-    public String getStatus() {
+    public CrimeStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(CrimeStatus status) {
         this.status = status;
     }
 }
@@ -0,0 +1,42 @@
+package com.example.demo.model;
+
+/**
+ * Lifecycle status of a crime. Stored as the small integer {@link #getCode()}
+ * (see {@link CrimeStatusConverter}); serialized to JSON by name.
+ */
+public enum CrimeStatus {
+    PENDING(0),
+    UNDER_INVESTIGATION(1),
+    RESOLVED(2);
+
+    private final int code;
+
+    CrimeStatus(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public static CrimeStatus fromCode(int code) {
+        for (CrimeStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown crime status code: " + code);
+    }
+
+    // Lenient parse for request parameters; rejects anything outside the enum
+    public static CrimeStatus parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Crime status is required");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown crime status: " + value);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Maps to Byte so the column's JDBC type matches the TINYINT status_code columns
+@Converter(autoApply = true)
+public class CrimeStatusConverter implements AttributeConverter<CrimeStatus, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(CrimeStatus status) {
+        return status != null ? (byte) status.getCode() : null;
+    }
+
+    @Override
+    public CrimeStatus convertToEntityAttribute(Byte code) {
+        return code != null ? CrimeStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry in the append-only status log of a crime. Rows are never updated;
+ * the previous status of an entry is the status of the entry before it.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "crime_status_events")
+public class CrimeStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain column rather than a relation so history outlives deletion and archival
+    @Column(name = "crime_id", nullable = false, updatable = false)
+    private Long crimeId;
+
+    @Column(name = "status_code", nullable = false, updatable = false)
+    private CrimeStatus status;
+
+    @Column(name = "changed_by", updatable = false)
+    private String changedBy;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    // Crime version produced by this transition
+    @Column(name = "crime_version", nullable = false, updatable = false)
+    private long crimeVersion;
+
+    public CrimeStatusEvent(Long crimeId, CrimeStatus status, String changedBy, LocalDateTime changedAt, long crimeVersion) {
+        this.crimeId = crimeId;
+        this.status = status;
+        this.changedBy = changedBy;
+        this.changedAt = changedAt;
+        this.crimeVersion = crimeVersion;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entry in the managed crime type dictionary. Crimes store only the small id.
+ * Inactive types still decode for existing crimes but cannot be used for new reports.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "crime_types")
+public class CrimeType {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Short id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    @Column(nullable = false)
+    private boolean active = true;
+
+    public CrimeType(String name) {
+        this.name = name;
+    }
+}
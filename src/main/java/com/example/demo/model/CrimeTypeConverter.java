@@ -0,0 +1,34 @@
+package com.example.demo.model;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.example.demo.service.CrimeTypeDictionary;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores crime type names as their dictionary id. Hibernate creates converters
+ * through Spring's bean container while the EntityManagerFactory boots, before
+ * the dictionary bean (which needs a repository) can exist, so the dictionary
+ * is resolved on first use instead of at construction.
+ */
+@Converter
+public class CrimeTypeConverter implements AttributeConverter<String, Short> {
+
+    private final ObjectProvider<CrimeTypeDictionary> dictionary;
+
+    public CrimeTypeConverter(ObjectProvider<CrimeTypeDictionary> dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(String name) {
+        return name != null ? dictionary.getObject().codeFor(name) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short code) {
+        return code != null ? dictionary.getObject().nameFor(code) : null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user report counts, kept up to date incrementally on every crime write
+ * so the profile page is a single primary-key lookup. Archived crimes stay
+ * counted.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "user_crime_summaries")
+public class UserCrimeSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+
+    @Column(name = "under_investigation_count", nullable = false)
+    private long underInvestigationCount;
+
+    @Column(name = "resolved_count", nullable = false)
+    private long resolvedCount;
+
+    // Crimes in any status outside the three above
+    @Column(name = "other_count", nullable = false)
+    private long otherCount;
+
+    @Column(name = "latest_crime_id")
+    private Long latestCrimeId;
+
+    @Column(name = "latest_reported_at")
+    private LocalDateTime latestReportedAt;
+
+    public UserCrimeSummary(Long userId) {
+        this.userId = userId;
+    }
+}
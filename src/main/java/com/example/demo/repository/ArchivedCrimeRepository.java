@@ -0,0 +1,29 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.model.ArchivedCrime;
+import com.example.demo.model.User;
+
+public interface ArchivedCrimeRepository extends JpaRepository<ArchivedCrime, Long> {
+    List<ArchivedCrime> findByReportedBy(User user);
+
+    @Query("SELECT a.status, COUNT(a) FROM ArchivedCrime a WHERE a.reportedBy.id = :userId GROUP BY a.status")
+    List<Object[]> countByStatusForUser(@Param("userId") Long userId);
+
+    // Copies the given crimes in one INSERT ... SELECT; saveAll would merge (SELECT then INSERT) row by row
+    @Modifying
+    @Query(value = "INSERT INTO crimes_archive (id, crime_type_id, description, location, latitude, longitude, "
+            + "reported_at, status_code, status_updated_at, archived_at, reported_by) "
+            + "SELECT c.id, c.crime_type_id, c.description, c.location, c.latitude, c.longitude, "
+            + "c.reported_at, c.status_code, c.status_updated_at, :archivedAt, c.reported_by "
+            + "FROM crimes c WHERE c.id IN :ids", nativeQuery = true)
+    int copyFromCrimes(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
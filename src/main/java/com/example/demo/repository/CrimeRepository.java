@@ -1,12 +1,116 @@
 package com.example.demo.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
 import com.example.demo.model.User;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface CrimeRepository extends JpaRepository<Crime, Long> {
     List<Crime> findByReportedBy(User user); // ✅ Ensure this method exists
+
+    // Served by idx_crimes_reported_by (reported_by, id); Slice avoids a count query
+    Slice<Crime> findByReportedBy(User user, Pageable pageable);
+
+    Optional<Crime> findFirstByReportedBy_IdOrderByIdDesc(Long userId);
+
+    @Query("SELECT c.status, COUNT(c) FROM Crime c WHERE c.reportedBy.id = :userId GROUP BY c.status")
+    List<Object[]> countByStatusForUser(@Param("userId") Long userId);
+
+    interface BulkTarget {
+        Long getId();
+        Long getReporterId();
+        CrimeStatus getStatus();
+    }
+
+    // Locks the given crimes that still match the filter (null conditions are ignored)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.id AS id, c.reportedBy.id AS reporterId, c.status AS status FROM Crime c "
+            + "WHERE c.id IN :ids AND (:status IS NULL OR c.status = :status) "
+            + "AND (:crimeType IS NULL OR c.crimeType = :crimeType) "
+            + "AND (:reportedBefore IS NULL OR c.reportedAt < :reportedBefore) ORDER BY c.id")
+    List<BulkTarget> lockMatching(@Param("ids") Collection<Long> ids,
+                                  @Param("status") CrimeStatus status,
+                                  @Param("crimeType") String crimeType,
+                                  @Param("reportedBefore") LocalDateTime reportedBefore);
+
+    // Crimes sitting in the given status since before the cutoff, oldest ids first.
+    // Locked for the archiving transaction; rows another instance already holds are skipped.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT c FROM Crime c WHERE c.status = :status "
+            + "AND COALESCE(c.statusUpdatedAt, c.reportedAt) < :cutoff ORDER BY c.id")
+    List<Crime> findStaleByStatus(@Param("status") CrimeStatus status,
+                                  @Param("cutoff") LocalDateTime cutoff,
+                                  Pageable pageable);
+
+    @Query("SELECT c.version FROM Crime c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT c.reportedBy.id FROM Crime c WHERE c.id = :id")
+    Optional<Long> findReporterIdById(@Param("id") Long id);
+
+    // Compare-and-set on version; returns 0 when the row is missing or was changed concurrently
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Crime c SET c.status = :status, c.statusUpdatedAt = :changedAt, c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.version = :expectedVersion")
+    int updateStatusIfVersion(@Param("id") Long id,
+                              @Param("expectedVersion") long expectedVersion,
+                              @Param("status") CrimeStatus status,
+                              @Param("changedAt") LocalDateTime changedAt);
+
+    @Query("SELECT c.id FROM Crime c WHERE (:status IS NULL OR c.status = :status) "
+            + "AND (:crimeType IS NULL OR c.crimeType = :crimeType) "
+            + "AND (:reportedBefore IS NULL OR c.reportedAt < :reportedBefore) ORDER BY c.id")
+    List<Long> findIdsMatching(@Param("status") CrimeStatus status,
+                               @Param("crimeType") String crimeType,
+                               @Param("reportedBefore") LocalDateTime reportedBefore);
+
+    // Database fallback for the filter endpoint when the column snapshot is off
+    @Query("SELECT c FROM Crime c WHERE (:status IS NULL OR c.status = :status) "
+            + "AND (:crimeType IS NULL OR c.crimeType = :crimeType)")
+    Slice<Crime> findMatching(@Param("status") CrimeStatus status,
+                              @Param("crimeType") String crimeType,
+                              Pageable pageable);
+
+    // Bounding box prefilter for nearby searches when the column snapshot is off
+    List<Crime> findByLatitudeBetweenAndLongitudeBetweenOrderByIdAsc(Double minLatitude, Double maxLatitude,
+                                                                     Double minLongitude, Double maxLongitude);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Crime c SET c.status = :status, c.statusUpdatedAt = :changedAt, c.version = c.version + 1 "
+            + "WHERE c.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") CrimeStatus status,
+                          @Param("changedAt") LocalDateTime changedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Crime c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.status, COUNT(c) FROM Crime c GROUP BY c.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT c.crimeType, COUNT(c) FROM Crime c WHERE c.crimeType IS NOT NULL GROUP BY c.crimeType")
+    List<Object[]> countGroupedByType();
+
+    // Raw stored codes for the in-memory column snapshot; skips entity hydration and converters
+    @Query(value = "SELECT id, latitude, longitude, crime_type_id, status_code, reported_at FROM crimes ORDER BY id",
+            nativeQuery = true)
+    List<Object[]> findAllColumnRows();
 }
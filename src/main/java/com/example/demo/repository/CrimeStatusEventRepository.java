@@ -0,0 +1,25 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.model.CrimeStatusEvent;
+
+public interface CrimeStatusEventRepository extends JpaRepository<CrimeStatusEvent, Long> {
+    List<CrimeStatusEvent> findByCrimeIdOrderByIdAsc(Long crimeId);
+
+    // Set-based append of the current status of each crime; run right after a bulk status update
+    @Modifying
+    @Query(value = "INSERT INTO crime_status_events (crime_id, status_code, changed_by, changed_at, crime_version) "
+            + "SELECT c.id, c.status_code, :changedBy, :changedAt, c.version FROM crimes c WHERE c.id IN (:crimeIds)",
+            nativeQuery = true)
+    int appendCurrentStatus(@Param("crimeIds") Collection<Long> crimeIds,
+                            @Param("changedBy") String changedBy,
+                            @Param("changedAt") LocalDateTime changedAt);
+}
@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.demo.model.CrimeType;
+
+public interface CrimeTypeRepository extends JpaRepository<CrimeType, Short> {
+    Optional<CrimeType> findByName(String name);
+}
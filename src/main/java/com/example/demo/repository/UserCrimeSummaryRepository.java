@@ -0,0 +1,95 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.model.UserCrimeSummary;
+
+public interface UserCrimeSummaryRepository extends JpaRepository<UserCrimeSummary, Long> {
+
+    // Status of a crime at a version: the newest status event at or below it
+    String STATUS_AT_VERSION = "SELECT e.status_code FROM crime_status_events e "
+            + "WHERE e.crime_id = :crimeId AND e.crime_version <= :fromVersion "
+            + "ORDER BY e.crime_version DESC, e.id DESC LIMIT 1";
+
+    // Atomic in-place increment; returns 0 when the user has no summary row yet
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserCrimeSummary s SET s.totalCount = s.totalCount + :total, "
+            + "s.pendingCount = s.pendingCount + :pending, "
+            + "s.underInvestigationCount = s.underInvestigationCount + :underInvestigation, "
+            + "s.resolvedCount = s.resolvedCount + :resolved, "
+            + "s.otherCount = s.otherCount + :other "
+            + "WHERE s.userId = :userId")
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("total") long total,
+                   @Param("pending") long pending,
+                   @Param("underInvestigation") long underInvestigation,
+                   @Param("resolved") long resolved,
+                   @Param("other") long other);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserCrimeSummary s SET s.latestCrimeId = :crimeId, s.latestReportedAt = :reportedAt "
+            + "WHERE s.userId = :userId AND (s.latestCrimeId IS NULL OR s.latestCrimeId < :crimeId)")
+    int advanceLatest(@Param("userId") Long userId,
+                      @Param("crimeId") Long crimeId,
+                      @Param("reportedAt") LocalDateTime reportedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserCrimeSummary s SET s.latestCrimeId = :crimeId, s.latestReportedAt = :reportedAt "
+            + "WHERE s.userId = :userId")
+    int setLatest(@Param("userId") Long userId,
+                  @Param("crimeId") Long crimeId,
+                  @Param("reportedAt") LocalDateTime reportedAt);
+
+    /**
+     * Creates the row from rebuilt counts, or applies the delta when another
+     * transaction created it first. Never overwrites an existing row.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO user_crime_summaries (user_id, total_count, pending_count, "
+            + "under_investigation_count, resolved_count, other_count, latest_crime_id, latest_reported_at) "
+            + "VALUES (:userId, :total, :pending, :underInvestigation, :resolved, :other, "
+            + ":latestCrimeId, :latestReportedAt) "
+            + "ON DUPLICATE KEY UPDATE total_count = total_count + :deltaTotal, "
+            + "pending_count = pending_count + :deltaPending, "
+            + "under_investigation_count = under_investigation_count + :deltaUnderInvestigation, "
+            + "resolved_count = resolved_count + :deltaResolved, "
+            + "other_count = other_count + :deltaOther",
+            nativeQuery = true)
+    int insertOrApplyDelta(@Param("userId") Long userId,
+                           @Param("total") long total,
+                           @Param("pending") long pending,
+                           @Param("underInvestigation") long underInvestigation,
+                           @Param("resolved") long resolved,
+                           @Param("other") long other,
+                           @Param("latestCrimeId") Long latestCrimeId,
+                           @Param("latestReportedAt") LocalDateTime latestReportedAt,
+                           @Param("deltaTotal") long deltaTotal,
+                           @Param("deltaPending") long deltaPending,
+                           @Param("deltaUnderInvestigation") long deltaUnderInvestigation,
+                           @Param("deltaResolved") long deltaResolved,
+                           @Param("deltaOther") long deltaOther);
+
+    /**
+     * Moves one crime's count from the status it had at fromVersion (read from
+     * the status log) to the status with code toCode, on its reporter's row.
+     * Returns 0 when the reporter has no row.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE user_crime_summaries SET "
+            + "pending_count = pending_count + CASE WHEN :toCode = 0 THEN 1 ELSE 0 END "
+            + "- CASE WHEN (" + STATUS_AT_VERSION + ") = 0 THEN 1 ELSE 0 END, "
+            + "under_investigation_count = under_investigation_count + CASE WHEN :toCode = 1 THEN 1 ELSE 0 END "
+            + "- CASE WHEN (" + STATUS_AT_VERSION + ") = 1 THEN 1 ELSE 0 END, "
+            + "resolved_count = resolved_count + CASE WHEN :toCode = 2 THEN 1 ELSE 0 END "
+            + "- CASE WHEN (" + STATUS_AT_VERSION + ") = 2 THEN 1 ELSE 0 END "
+            + "WHERE user_id = (SELECT c.reported_by FROM crimes c WHERE c.id = :crimeId)",
+            nativeQuery = true)
+    int applyStatusTransition(@Param("crimeId") Long crimeId,
+                              @Param("fromVersion") long fromVersion,
+                              @Param("toCode") int toCode);
+}
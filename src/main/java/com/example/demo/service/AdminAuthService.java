@@ -34,6 +34,11 @@ public class AdminAuthService {
         return token != null && activeTokens.containsKey(token);
     }
 
+    // Single configured admin account, so every valid token belongs to it
+    public String getAdminUsername(String token) {
+        return isTokenValid(token) ? adminUsername : null;
+    }
+
     public void logout(String token) {
         if (token != null) {
             activeTokens.remove(token);
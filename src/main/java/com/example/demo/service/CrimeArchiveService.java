@@ -0,0 +1,128 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.repository.ArchivedCrimeRepository;
+import com.example.demo.repository.CrimeRepository;
+
+/**
+ * Moves crimes that have been RESOLVED for longer than the configured age out of
+ * the hot {@code crimes} table into {@code crimes_archive}. Work is done in small
+ * batches, each in its own transaction, with a pause between batches so the job
+ * never holds long locks or saturates the database. Each batch is selected
+ * FOR UPDATE SKIP LOCKED, so a concurrent status change either finishes first
+ * (and the row no longer qualifies) or waits and then finds the row gone, and
+ * several instances running the job take disjoint batches.
+ */
+@Service
+public class CrimeArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(CrimeArchiveService.class);
+    private static final CrimeStatus ARCHIVABLE_STATUS = CrimeStatus.RESOLVED;
+
+    private final CrimeRepository crimeRepository;
+    private final ArchivedCrimeRepository archivedCrimeRepository;
+    private final CrimeColumnStore columnStore;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int resolvedAgeDays;
+    private final int batchSize;
+    private final long batchPauseMs;
+    private final int maxBatchesPerRun;
+
+    public CrimeArchiveService(
+            CrimeRepository crimeRepository,
+            ArchivedCrimeRepository archivedCrimeRepository,
+            CrimeColumnStore columnStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${crimes.archive.enabled:true}") boolean enabled,
+            @Value("${crimes.archive.resolved-age-days:180}") int resolvedAgeDays,
+            @Value("${crimes.archive.batch-size:200}") int batchSize,
+            @Value("${crimes.archive.batch-pause-ms:500}") long batchPauseMs,
+            @Value("${crimes.archive.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this.crimeRepository = crimeRepository;
+        this.archivedCrimeRepository = archivedCrimeRepository;
+        this.columnStore = columnStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.resolvedAgeDays = resolvedAgeDays;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${crimes.archive.initial-delay-ms:60000}",
+               fixedDelayString = "${crimes.archive.interval-ms:3600000}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        int moved = archiveResolvedCrimes();
+        if (moved > 0) {
+            log.info("Archived {} resolved crimes older than {} days", moved, resolvedAgeDays);
+        }
+    }
+
+    /**
+     * Runs one throttled archival pass and returns the number of crimes moved.
+     */
+    public synchronized int archiveResolvedCrimes() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(resolvedAgeDays);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Crime> stale = crimeRepository.findStaleByStatus(
+                ARCHIVABLE_STATUS, cutoff, PageRequest.of(0, batchSize));
+        if (stale.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = stale.stream().map(Crime::getId).collect(Collectors.toList());
+        // Rows stay locked by the select above, so the copy and the delete see the same batch
+        archivedCrimeRepository.copyFromCrimes(ids, LocalDateTime.now());
+        crimeRepository.deleteAllInBatch(stale);
+        columnStore.onRemoved(ids);
+        return stale.size();
+    }
+
+    private boolean pause() {
+        if (batchPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
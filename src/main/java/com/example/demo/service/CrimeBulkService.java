@@ -0,0 +1,170 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.repository.CrimeRepository;
+import com.example.demo.repository.CrimeStatusEventRepository;
+
+import lombok.Data;
+
+/**
+ * Set-based admin operations over many crimes. Targets are given either as an
+ * explicit id list or as a {@link Filter}; they are processed in fixed-size
+ * chunks, each chunk in its own transaction, so large triage runs never hold
+ * one long transaction. Every chunk locks its rows and re-checks the filter
+ * first, so a crime that stopped matching after the targets were collected is
+ * left alone, and the summary deltas come from the statuses actually replaced.
+ */
+@Service
+public class CrimeBulkService {
+
+    private final CrimeRepository crimeRepository;
+    private final CrimeStatusEventRepository statusEventRepository;
+    private final UserCrimeSummaryService summaryService;
+    private final CrimeTypeDictionary crimeTypeDictionary;
+    private final CrimeColumnStore columnStore;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CrimeBulkService(
+            CrimeRepository crimeRepository,
+            CrimeStatusEventRepository statusEventRepository,
+            UserCrimeSummaryService summaryService,
+            CrimeTypeDictionary crimeTypeDictionary,
+            CrimeColumnStore columnStore,
+            ReadYourWritesTracker readYourWritesTracker,
+            PlatformTransactionManager transactionManager,
+            @Value("${crimes.bulk.chunk-size:500}") int chunkSize) {
+        this.crimeRepository = crimeRepository;
+        this.statusEventRepository = statusEventRepository;
+        this.summaryService = summaryService;
+        this.crimeTypeDictionary = crimeTypeDictionary;
+        this.columnStore = columnStore;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Data
+    public static class Filter {
+        private CrimeStatus status;
+        private String crimeType;
+        private LocalDateTime reportedBefore;
+
+        // Parsed like the top-level status of a bulk request, so "resolved" works in both
+        public void setStatus(String status) {
+            this.status = status != null ? CrimeStatus.parse(status) : null;
+        }
+
+        boolean isEmpty() {
+            return status == null && crimeType == null && reportedBefore == null;
+        }
+    }
+
+    /**
+     * Sets the status of every targeted crime and appends one history event per
+     * crime. Returns the number of crimes updated.
+     */
+    public int updateStatus(List<Long> ids, Filter filter, CrimeStatus status, String changedBy) {
+        List<Long> targets = resolveTargets(ids, filter);
+        int updated = 0;
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<Long> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            Integer count = transactionTemplate.execute(tx -> {
+                List<CrimeRepository.BulkTarget> locked = lockMatching(chunk, filter);
+                if (locked.isEmpty()) {
+                    return 0;
+                }
+                List<Long> lockedIds = idsOf(locked);
+                LocalDateTime now = LocalDateTime.now();
+                int rows = crimeRepository.updateStatusByIds(lockedIds, status, now);
+                statusEventRepository.appendCurrentStatus(lockedIds, changedBy, now);
+                summaryService.recordStatusChanges(countByReporterAndStatus(locked), status);
+                columnStore.onStatusChanged(lockedIds, status);
+                return rows;
+            });
+            updated += count != null ? count : 0;
+        }
+        if (updated > 0) {
+            readYourWritesTracker.recordWrite();
+        }
+        return updated;
+    }
+
+    /**
+     * Deletes every targeted crime. Returns the number of crimes deleted.
+     */
+    public int delete(List<Long> ids, Filter filter) {
+        List<Long> targets = resolveTargets(ids, filter);
+        int deleted = 0;
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<Long> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            Integer count = transactionTemplate.execute(tx -> {
+                List<CrimeRepository.BulkTarget> locked = lockMatching(chunk, filter);
+                if (locked.isEmpty()) {
+                    return 0;
+                }
+                List<Long> lockedIds = idsOf(locked);
+                int rows = crimeRepository.deleteByIds(lockedIds);
+                summaryService.recordDeletions(countByReporterAndStatus(locked), lockedIds);
+                columnStore.onRemoved(lockedIds);
+                return rows;
+            });
+            deleted += count != null ? count : 0;
+        }
+        if (deleted > 0) {
+            readYourWritesTracker.recordWrite();
+        }
+        return deleted;
+    }
+
+    private List<Long> resolveTargets(List<Long> ids, Filter filter) {
+        if (ids != null && !ids.isEmpty()) {
+            return ids;
+        }
+        if (filter == null || filter.isEmpty()) {
+            throw new IllegalArgumentException("Bulk operations need a list of ids or a non-empty filter");
+        }
+        // An unknown type would encode to NULL and silently drop the type condition
+        if (filter.getCrimeType() != null && crimeTypeDictionary.codeFor(filter.getCrimeType()) == null) {
+            return List.of();
+        }
+        return crimeRepository.findIdsMatching(filter.getStatus(), filter.getCrimeType(), filter.getReportedBefore());
+    }
+
+    // Explicit id lists carry no filter; the ids are still locked before the write
+    private List<CrimeRepository.BulkTarget> lockMatching(List<Long> chunk, Filter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return crimeRepository.lockMatching(chunk, null, null, null);
+        }
+        return crimeRepository.lockMatching(chunk, filter.getStatus(), filter.getCrimeType(), filter.getReportedBefore());
+    }
+
+    private static List<Long> idsOf(List<CrimeRepository.BulkTarget> targets) {
+        return targets.stream().map(CrimeRepository.BulkTarget::getId).collect(Collectors.toList());
+    }
+
+    // Rows of (reporter id, previous status, count), as the summary service expects
+    private static List<Object[]> countByReporterAndStatus(List<CrimeRepository.BulkTarget> targets) {
+        Map<List<Object>, Long> counts = new HashMap<>();
+        for (CrimeRepository.BulkTarget target : targets) {
+            counts.merge(Arrays.asList(target.getReporterId(), target.getStatus()), 1L, Long::sum);
+        }
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(new Object[] { key.get(0), key.get(1), count }));
+        return rows;
+    }
+}
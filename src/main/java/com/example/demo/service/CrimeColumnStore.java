@@ -0,0 +1,420 @@
+package com.example.demo.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.repository.CrimeRepository;
+
+/**
+ * Optional in-memory read model of the hot crimes table, kept as primitive
+ * column arrays sorted by id. Readers grab the current {@link Snapshot} and
+ * scan it without locks or per-row allocation; writers publish a new snapshot.
+ *
+ * Appends write into spare capacity past every published snapshot's size and
+ * then publish a longer snapshot over the same arrays, so they are O(1)
+ * amortized. Status changes copy only the status column; removals compact into
+ * fresh arrays. Changes are applied after commit, and a periodic full reload
+ * picks up writes made by other instances.
+ */
+@Service
+public class CrimeColumnStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CrimeColumnStore.class);
+    private static final double EARTH_RADIUS_KM = 6371;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private final CrimeRepository crimeRepository;
+    private final CrimeTypeDictionary crimeTypeDictionary;
+    private final boolean enabled;
+
+    private volatile Snapshot snapshot;
+    // Serializes reloads; the writer lock (this) is only held to swap the result in
+    private final Object reloadLock = new Object();
+    // Changes applied while a reload is reading, replayed onto its result; guarded by this
+    private List<Runnable> changesDuringReload;
+
+    public CrimeColumnStore(CrimeRepository crimeRepository,
+                            CrimeTypeDictionary crimeTypeDictionary,
+                            @Value("${crimes.snapshot.enabled:false}") boolean enabled) {
+        this.crimeRepository = crimeRepository;
+        this.crimeTypeDictionary = crimeTypeDictionary;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Immutable view of the columns; only indexes below {@link #size} are valid.
+     */
+    public static final class Snapshot {
+        final int size;
+        final long[] ids;
+        final double[] latitudes;
+        final double[] longitudes;
+        final short[] typeCodes;
+        final byte[] statusCodes;
+        final long[] reportedAtEpochSeconds;
+
+        Snapshot(int size, long[] ids, double[] latitudes, double[] longitudes,
+                 short[] typeCodes, byte[] statusCodes, long[] reportedAtEpochSeconds) {
+            this.size = size;
+            this.ids = ids;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.typeCodes = typeCodes;
+            this.statusCodes = statusCodes;
+            this.reportedAtEpochSeconds = reportedAtEpochSeconds;
+        }
+
+        static Snapshot withCapacity(int capacity) {
+            return new Snapshot(0, new long[capacity], new double[capacity], new double[capacity],
+                    new short[capacity], new byte[capacity], new long[capacity]);
+        }
+
+        int capacity() {
+            return ids.length;
+        }
+
+        int indexOf(long id) {
+            return Arrays.binarySearch(ids, 0, size, id);
+        }
+    }
+
+    // True once the snapshot is loaded; callers fall back to the database otherwise
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${crimes.snapshot.refresh-ms:60000}",
+               fixedDelayString = "${crimes.snapshot.refresh-ms:60000}")
+    public void scheduledReload() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * Reads the table without holding the writer lock, so after-commit changes
+     * keep applying to the current snapshot meanwhile. Those changes are also
+     * recorded and replayed onto the new snapshot when it is swapped in, since
+     * the read may have started before they committed.
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                changesDuringReload = new ArrayList<>();
+            }
+            Snapshot next;
+            try {
+                next = load(crimeRepository.findAllColumnRows());
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringReload = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                List<Runnable> replay = changesDuringReload;
+                changesDuringReload = null;
+                snapshot = next;
+                replay.forEach(Runnable::run);
+            }
+            log.debug("Loaded crime column snapshot with {} rows", next.size);
+        }
+    }
+
+    private static Snapshot load(List<Object[]> rows) {
+        Snapshot next = Snapshot.withCapacity(Math.max(16, rows.size() + rows.size() / 4));
+        int i = 0;
+        for (Object[] row : rows) {
+            next.ids[i] = ((Number) row[0]).longValue();
+            next.latitudes[i] = row[1] != null ? ((Number) row[1]).doubleValue() : Double.NaN;
+            next.longitudes[i] = row[2] != null ? ((Number) row[2]).doubleValue() : Double.NaN;
+            next.typeCodes[i] = row[3] != null ? ((Number) row[3]).shortValue() : -1;
+            next.statusCodes[i] = (byte) ((Number) row[4]).intValue();
+            next.reportedAtEpochSeconds[i] = epochSeconds(row[5]);
+            i++;
+        }
+        return resized(next, i);
+    }
+
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    // ---- write hooks (called from the services inside their transactions) ----
+
+    public void onCrimeSaved(Crime crime) {
+        if (!enabled || crime.getId() == null) {
+            return;
+        }
+        long id = crime.getId();
+        double latitude = crime.getLatitude() != null ? crime.getLatitude() : Double.NaN;
+        double longitude = crime.getLongitude() != null ? crime.getLongitude() : Double.NaN;
+        Short typeCode = crime.getCrimeType() != null ? crimeTypeDictionary.codeFor(crime.getCrimeType()) : null;
+        byte statusCode = (byte) (crime.getStatus() != null ? crime.getStatus() : CrimeStatus.PENDING).getCode();
+        long reportedAt = epochSeconds(crime.getReportedAt());
+        afterCommit(() -> apply(() -> upsert(id, latitude, longitude, typeCode != null ? typeCode : (short) -1,
+                statusCode, reportedAt)));
+    }
+
+    public void onStatusChanged(Collection<Long> ids, CrimeStatus status) {
+        if (enabled) {
+            List<Long> copy = List.copyOf(ids);
+            afterCommit(() -> apply(() -> setStatus(copy, (byte) status.getCode())));
+        }
+    }
+
+    public void onRemoved(Collection<Long> ids) {
+        if (enabled) {
+            List<Long> copy = List.copyOf(ids);
+            afterCommit(() -> apply(() -> remove(copy)));
+        }
+    }
+
+    // ---- lock-free reads ----
+
+    public Map<CrimeStatus, Long> countByStatus() {
+        Snapshot s = snapshot;
+        long[] counts = new long[CrimeStatus.values().length];
+        byte[] codes = s.statusCodes;
+        for (int i = 0; i < s.size; i++) {
+            counts[codes[i]]++;
+        }
+        Map<CrimeStatus, Long> result = new HashMap<>();
+        for (CrimeStatus status : CrimeStatus.values()) {
+            result.put(status, counts[status.getCode()]);
+        }
+        return result;
+    }
+
+    // Keyed by crime type name; crimes without a known type are left out
+    public Map<String, Long> countByType() {
+        Snapshot s = snapshot;
+        // Codes past the dictionary (types not refreshed yet) have no name and are left out
+        long[] counts = new long[crimeTypeDictionary.maxCode() + 1];
+        short[] codes = s.typeCodes;
+        for (int i = 0; i < s.size; i++) {
+            if (codes[i] >= 0 && codes[i] < counts.length) {
+                counts[codes[i]]++;
+            }
+        }
+        Map<String, Long> result = new HashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                String name = crimeTypeDictionary.nameFor((short) code);
+                if (name != null) {
+                    result.put(name, counts[code]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ids of crimes matching the optional status and type, ascending. A type
+     * name outside the dictionary matches nothing.
+     */
+    public long[] findIds(CrimeStatus status, String crimeType) {
+        Snapshot s = snapshot;
+        int statusCode = status != null ? status.getCode() : -1;
+        int typeCode = -1;
+        if (crimeType != null) {
+            Short code = crimeTypeDictionary.codeFor(crimeType);
+            if (code == null) {
+                return new long[0];
+            }
+            typeCode = code;
+        }
+        long[] matches = new long[s.size];
+        int n = 0;
+        for (int i = 0; i < s.size; i++) {
+            if ((statusCode < 0 || s.statusCodes[i] == statusCode) && (typeCode < 0 || s.typeCodes[i] == typeCode)) {
+                matches[n++] = s.ids[i];
+            }
+        }
+        return Arrays.copyOf(matches, n);
+    }
+
+    // Ids within radiusKm (haversine) of the point, with a latitude band check first
+    public long[] findIdsWithinRadius(double latitude, double longitude, double radiusKm) {
+        Snapshot s = snapshot;
+        double latBand = radiusKm / KM_PER_DEGREE_LAT;
+        double minLat = latitude - latBand;
+        double maxLat = latitude + latBand;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        long[] matches = new long[s.size];
+        int n = 0;
+        for (int i = 0; i < s.size; i++) {
+            double lat = s.latitudes[i];
+            if (lat < minLat || lat > maxLat) {
+                continue;
+            }
+            double dLat = Math.toRadians(lat - latitude);
+            double dLon = Math.toRadians(s.longitudes[i] - longitude);
+            double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                    + cosLat * Math.cos(Math.toRadians(lat)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+            double distance = EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+            if (distance <= radiusKm) {
+                matches[n++] = s.ids[i];
+            }
+        }
+        return Arrays.copyOf(matches, n);
+    }
+
+    // ---- snapshot mutation (single writer, always under this object's lock) ----
+
+    private synchronized void apply(Runnable change) {
+        change.run();
+        if (changesDuringReload != null) {
+            changesDuringReload.add(change);
+        }
+    }
+
+    private void upsert(long id, double latitude, double longitude,
+                        short typeCode, byte statusCode, long reportedAt) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            return;
+        }
+        int index = s.indexOf(id);
+        if (index >= 0) {
+            // Already present (e.g. picked up by a concurrent reload); refresh the row
+            Snapshot copy = copyOf(s, s.capacity());
+            writeRow(copy, index, id, latitude, longitude, typeCode, statusCode, reportedAt);
+            snapshot = copy;
+            return;
+        }
+        int insertAt = -index - 1;
+        if (insertAt == s.size && s.size < s.capacity()) {
+            // Common case: new identity id past the end, slot unused by any published snapshot
+            writeRow(s, insertAt, id, latitude, longitude, typeCode, statusCode, reportedAt);
+            snapshot = new Snapshot(s.size + 1, s.ids, s.latitudes, s.longitudes,
+                    s.typeCodes, s.statusCodes, s.reportedAtEpochSeconds);
+            return;
+        }
+        Snapshot grown = Snapshot.withCapacity(Math.max(16, s.capacity() * 2));
+        copyRange(s, 0, grown, 0, insertAt);
+        writeRow(grown, insertAt, id, latitude, longitude, typeCode, statusCode, reportedAt);
+        copyRange(s, insertAt, grown, insertAt + 1, s.size - insertAt);
+        snapshot = resized(grown, s.size + 1);
+    }
+
+    private void setStatus(List<Long> ids, byte statusCode) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            return;
+        }
+        byte[] statusCodes = Arrays.copyOf(s.statusCodes, s.capacity());
+        for (Long id : ids) {
+            int index = s.indexOf(id);
+            if (index >= 0) {
+                statusCodes[index] = statusCode;
+            }
+        }
+        snapshot = new Snapshot(s.size, s.ids, s.latitudes, s.longitudes,
+                s.typeCodes, statusCodes, s.reportedAtEpochSeconds);
+    }
+
+    private void remove(List<Long> ids) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            return;
+        }
+        boolean[] removed = new boolean[s.size];
+        int removedCount = 0;
+        for (Long id : ids) {
+            int index = s.indexOf(id);
+            if (index >= 0 && !removed[index]) {
+                removed[index] = true;
+                removedCount++;
+            }
+        }
+        if (removedCount == 0) {
+            return;
+        }
+        Snapshot next = Snapshot.withCapacity(s.capacity());
+        int n = 0;
+        for (int i = 0; i < s.size; i++) {
+            if (!removed[i]) {
+                copyRange(s, i, next, n++, 1);
+            }
+        }
+        snapshot = resized(next, n);
+    }
+
+    private static void writeRow(Snapshot s, int index, long id, double latitude, double longitude,
+                                 short typeCode, byte statusCode, long reportedAt) {
+        s.ids[index] = id;
+        s.latitudes[index] = latitude;
+        s.longitudes[index] = longitude;
+        s.typeCodes[index] = typeCode;
+        s.statusCodes[index] = statusCode;
+        s.reportedAtEpochSeconds[index] = reportedAt;
+    }
+
+    private static void copyRange(Snapshot from, int fromIndex, Snapshot to, int toIndex, int length) {
+        System.arraycopy(from.ids, fromIndex, to.ids, toIndex, length);
+        System.arraycopy(from.latitudes, fromIndex, to.latitudes, toIndex, length);
+        System.arraycopy(from.longitudes, fromIndex, to.longitudes, toIndex, length);
+        System.arraycopy(from.typeCodes, fromIndex, to.typeCodes, toIndex, length);
+        System.arraycopy(from.statusCodes, fromIndex, to.statusCodes, toIndex, length);
+        System.arraycopy(from.reportedAtEpochSeconds, fromIndex, to.reportedAtEpochSeconds, toIndex, length);
+    }
+
+    private static Snapshot copyOf(Snapshot s, int capacity) {
+        Snapshot copy = Snapshot.withCapacity(capacity);
+        copyRange(s, 0, copy, 0, s.size);
+        return resized(copy, s.size);
+    }
+
+    private static Snapshot resized(Snapshot s, int size) {
+        return new Snapshot(size, s.ids, s.latitudes, s.longitudes,
+                s.typeCodes, s.statusCodes, s.reportedAtEpochSeconds);
+    }
+
+    // reportedAt is stored as server-local time; 0 when missing
+    private static long epochSeconds(Object value) {
+        LocalDateTime dateTime = value instanceof Timestamp timestamp ? timestamp.toLocalDateTime()
+                : value instanceof LocalDateTime local ? local : null;
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() : 0L;
+    }
+
+    // Apply only once the writing transaction has committed; immediately when there is none
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,56 +1,151 @@
 package com.example.demo.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.StaleCrimeVersionException;
+import com.example.demo.model.ArchivedCrime;
 import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.model.CrimeStatusEvent;
 import com.example.demo.model.User;
+import com.example.demo.repository.ArchivedCrimeRepository;
 import com.example.demo.repository.CrimeRepository;
+import com.example.demo.repository.CrimeStatusEventRepository;
 
 @Service
 public class CrimeService {
 
+    // Ids per findAllById call when loading crimes picked from the column snapshot
+    private static final int FETCH_CHUNK_SIZE = 500;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
     private final CrimeRepository crimeRepository;
+    private final ArchivedCrimeRepository archivedCrimeRepository;
+    private final CrimeStatusEventRepository statusEventRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final UserCrimeSummaryService summaryService;
+    private final CrimeColumnStore columnStore;
+    private final CrimeTypeDictionary crimeTypeDictionary;
 
     @Autowired
-    public CrimeService(CrimeRepository crimeRepository) {
+    public CrimeService(CrimeRepository crimeRepository,
+                        ArchivedCrimeRepository archivedCrimeRepository,
+                        CrimeStatusEventRepository statusEventRepository,
+                        ReadYourWritesTracker readYourWritesTracker,
+                        UserCrimeSummaryService summaryService,
+                        CrimeColumnStore columnStore,
+                        CrimeTypeDictionary crimeTypeDictionary) {
         this.crimeRepository = crimeRepository;
+        this.archivedCrimeRepository = archivedCrimeRepository;
+        this.statusEventRepository = statusEventRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.summaryService = summaryService;
+        this.columnStore = columnStore;
+        this.crimeTypeDictionary = crimeTypeDictionary;
     }
 
+    @Transactional
     public Crime saveCrime(Crime crime) {
-        return crimeRepository.save(crime);
+        boolean isNew = crime.getId() == null;
+        Crime saved = crimeRepository.save(crime);
+        if (isNew) {
+            // Opening log entry, so every version a transition starts from has a recorded status
+            statusEventRepository.save(new CrimeStatusEvent(
+                    saved.getId(), saved.getStatus(), null, saved.getReportedAt(), saved.getVersion()));
+            summaryService.recordNewCrime(saved);
+        }
+        columnStore.onCrimeSaved(saved);
+        readYourWritesTracker.recordWrite();
+        return saved;
     }
 
+    @Transactional(readOnly = true)
     public List<Crime> getAllCrimes() {
         return crimeRepository.findAll();
     }
 
+    // Hot set followed by archived crimes; only used when a caller opts in
+    @Transactional(readOnly = true)
+    public List<Crime> getAllCrimesIncludingArchive() {
+        List<Crime> crimes = new ArrayList<>(crimeRepository.findAll());
+        archivedCrimeRepository.findAll().forEach(archived -> crimes.add(archived.toCrime()));
+        return crimes;
+    }
+
+    // Archived crimes keep their id, so links to them keep resolving
+    @Transactional(readOnly = true)
     public Crime getCrimeById(Long id) {
         return crimeRepository.findById(id)
+                .or(() -> archivedCrimeRepository.findById(id).map(ArchivedCrime::toCrime))
                 .orElseThrow(() -> new ResourceNotFoundException("Crime not found with id: " + id));
     }
 
     // ✅ Handle deletion properly
+    @Transactional
     public void deleteCrime(Long id) {
-        if (!crimeRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Crime not found with id: " + id);
-        }
-        crimeRepository.deleteById(id);
+        // Locked so the status counted out of the summary is the one actually deleted
+        CrimeRepository.BulkTarget target = crimeRepository.lockMatching(List.of(id), null, null, null).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Crime not found with id: " + id));
+        crimeRepository.deleteByIds(List.of(id));
+        summaryService.recordDeletions(
+                List.<Object[]>of(new Object[] { target.getReporterId(), target.getStatus(), 1L }),
+                List.of(id));
+        columnStore.onRemoved(List.of(id));
+        readYourWritesTracker.recordWrite();
     }
 
     // ✅ Ensure this method is correctly calling CrimeRepository
+    @Transactional(readOnly = true)
     public List<Crime> getCrimesByUser(User user) {
         return crimeRepository.findByReportedBy(user);
     }
 
+    // Newest first, one page at a time
+    @Transactional(readOnly = true)
+    public Slice<Crime> getCrimesByUserPage(User user, int page, int size) {
+        return crimeRepository.findByReportedBy(user, PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Crime> getCrimesByUserIncludingArchive(User user) {
+        List<Crime> crimes = new ArrayList<>(crimeRepository.findByReportedBy(user));
+        archivedCrimeRepository.findByReportedBy(user).stream()
+                .map(ArchivedCrime::toCrime)
+                .forEach(crimes::add);
+        return crimes;
+    }
+
     // ✅ Fixed method name to match CrimeController.java
-    public List<Crime> getCrimesWithinRadius(double userLat, double userLon) { // ✅ Corrected method name
+    // At most limit crimes within 1 km, ascending by id
+    @Transactional(readOnly = true)
+    public List<Crime> getCrimesWithinRadius(double userLat, double userLon, int limit) { // ✅ Corrected method name
+        if (columnStore.isReady()) {
+            long[] ids = columnStore.findIdsWithinRadius(userLat, userLon, 1);
+            return crimesByIds(ids, 0, Math.min(limit, ids.length));
+        }
         double R = 6371; // Radius of Earth in km
-        return crimeRepository.findAll().stream()
+        double latBand = 1 / KM_PER_DEGREE_LAT;
+        double lonBand = Math.min(180, latBand / Math.max(Math.cos(Math.toRadians(userLat)), 1e-6));
+        return crimeRepository.findByLatitudeBetweenAndLongitudeBetweenOrderByIdAsc(
+                userLat - latBand, userLat + latBand, userLon - lonBand, userLon + lonBand).stream()
             .filter(crime -> {
                 double crimeLat = crime.getLatitude();
                 double crimeLon = crime.getLongitude();
@@ -63,12 +158,103 @@ public class CrimeService {
                 double distance = R * c;
                 return distance <= 1; // Filter crimes within 1km radius
             })
+            .limit(limit)
             .collect(Collectors.toList());
     }
 
-    public Crime updateCrimeStatus(Long crimeId, String status) {
-        Crime crime = getCrimeById(crimeId);
-        crime.setStatus(status);
-        return crimeRepository.save(crime);
+    /**
+     * Moves a crime to a new status with a versioned conditional update followed by
+     * an append to the status log, both in one transaction. With an
+     * expectedVersion nothing is read first; without one the current version is
+     * read and used as the condition. A version that no longer matches raises
+     * {@link StaleCrimeVersionException} instead of silently overwriting. The
+     * reporter's summary takes the replaced status from the log entry for that
+     * version, in the same statement that updates it.
+     */
+    @Transactional
+    public CrimeStatusEvent updateCrimeStatus(Long crimeId, CrimeStatus status, String changedBy, Long expectedVersion) {
+        long version = expectedVersion != null
+                ? expectedVersion
+                : crimeRepository.findVersionById(crimeId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Crime not found with id: " + crimeId));
+        LocalDateTime now = LocalDateTime.now();
+        if (crimeRepository.updateStatusIfVersion(crimeId, version, status, now) == 0) {
+            if (!crimeRepository.existsById(crimeId)) {
+                throw new ResourceNotFoundException("Crime not found with id: " + crimeId);
+            }
+            throw new StaleCrimeVersionException("Crime " + crimeId + " was modified concurrently; reload and retry");
+        }
+        summaryService.recordStatusChange(crimeId, version, status);
+        columnStore.onStatusChanged(List.of(crimeId), status);
+        readYourWritesTracker.recordWrite();
+        return statusEventRepository.save(new CrimeStatusEvent(crimeId, status, changedBy, now, version + 1));
+    }
+
+    /**
+     * Crime counts for dashboards: total, per status and per type. Served from
+     * the column snapshot when it is loaded, otherwise by GROUP BY queries.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getCrimeStats() {
+        Map<CrimeStatus, Long> byStatus = new EnumMap<>(CrimeStatus.class);
+        Map<String, Long> byType = new TreeMap<>();
+        if (columnStore.isReady()) {
+            byStatus.putAll(columnStore.countByStatus());
+            byType.putAll(columnStore.countByType());
+        } else {
+            for (CrimeStatus status : CrimeStatus.values()) {
+                byStatus.put(status, 0L);
+            }
+            for (Object[] row : crimeRepository.countGroupedByStatus()) {
+                byStatus.put((CrimeStatus) row[0], (Long) row[1]);
+            }
+            for (Object[] row : crimeRepository.countGroupedByType()) {
+                byType.put((String) row[0], (Long) row[1]);
+            }
+        }
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return Map.of("total", total, "byStatus", byStatus, "byType", byType);
+    }
+
+    /**
+     * One page of crimes matching the optional status and type, ascending by id.
+     * Ids come from the column snapshot when it is loaded, otherwise the page is
+     * queried directly.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Crime> getCrimesMatching(CrimeStatus status, String crimeType, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by("id"));
+        // An unknown type would encode to NULL and silently drop the type condition
+        if (crimeType != null && crimeTypeDictionary.codeFor(crimeType) == null) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        if (columnStore.isReady()) {
+            long[] ids = columnStore.findIds(status, crimeType);
+            int from = (int) Math.min(pageable.getOffset(), ids.length);
+            int to = Math.min(from + size, ids.length);
+            return new SliceImpl<>(crimesByIds(ids, from, to), pageable, to < ids.length);
+        }
+        return crimeRepository.findMatching(status, crimeType, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CrimeStatusEvent> getStatusHistory(Long crimeId) {
+        return statusEventRepository.findByCrimeIdOrderByIdAsc(crimeId);
+    }
+
+    // Loads ids[from, to) in bounded IN-list chunks, keeping their ascending id order
+    private List<Crime> crimesByIds(long[] ids, int from, int to) {
+        List<Crime> crimes = new ArrayList<>(to - from);
+        for (int start = from; start < to; start += FETCH_CHUNK_SIZE) {
+            int end = Math.min(start + FETCH_CHUNK_SIZE, to);
+            List<Long> chunk = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                chunk.add(ids[i]);
+            }
+            List<Crime> found = new ArrayList<>(crimeRepository.findAllById(chunk));
+            found.sort(Comparator.comparing(Crime::getId));
+            crimes.addAll(found);
+        }
+        return crimes;
     }
 }
@@ -0,0 +1,126 @@
+package com.example.demo.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.model.CrimeType;
+import com.example.demo.repository.CrimeTypeRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory copy of the crime_types table used to translate between type names
+ * and their stored codes. Snapshots are swapped whole, so lookups never lock or
+ * query. Changes made here reload on commit; types added by other instances are
+ * picked up by the periodic refresh and read as null until then.
+ */
+@Service
+public class CrimeTypeDictionary {
+
+    private final CrimeTypeRepository crimeTypeRepository;
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+
+    public CrimeTypeDictionary(CrimeTypeRepository crimeTypeRepository) {
+        this.crimeTypeRepository = crimeTypeRepository;
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${crimes.types.refresh-ms:60000}",
+               fixedDelayString = "${crimes.types.refresh-ms:60000}")
+    public synchronized void reload() {
+        snapshot = new Snapshot(crimeTypeRepository.findAll());
+    }
+
+    // Null for names outside the dictionary, so filters on them match nothing
+    public Short codeFor(String name) {
+        CrimeType type = snapshot.byName.get(name);
+        return type != null ? type.getId() : null;
+    }
+
+    public String nameFor(short code) {
+        CrimeType type = snapshot.byId.get(code);
+        return type != null ? type.getName() : null;
+    }
+
+    // Largest stored code, or -1 when the dictionary is empty
+    public int maxCode() {
+        Map<Short, CrimeType> byId = snapshot.byId;
+        return byId.isEmpty() ? -1 : ((TreeMap<Short, CrimeType>) byId).lastKey();
+    }
+
+    public boolean isActive(String name) {
+        CrimeType type = name != null ? snapshot.byName.get(name) : null;
+        return type != null && type.isActive();
+    }
+
+    public List<CrimeType> getAll() {
+        return List.copyOf(snapshot.byId.values());
+    }
+
+    public List<String> getActiveNames() {
+        return snapshot.byId.values().stream()
+                .filter(CrimeType::isActive)
+                .map(CrimeType::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public CrimeType addType(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Crime type name is required");
+        }
+        CrimeType type = crimeTypeRepository.findByName(name.trim()).orElseGet(() -> new CrimeType(name.trim()));
+        type.setActive(true);
+        CrimeType saved = crimeTypeRepository.save(type);
+        reloadAfterCommit();
+        return saved;
+    }
+
+    @Transactional
+    public CrimeType deactivateType(Short id) {
+        CrimeType type = crimeTypeRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Crime type not found with id: " + id));
+        type.setActive(false);
+        CrimeType saved = crimeTypeRepository.save(type);
+        reloadAfterCommit();
+        return saved;
+    }
+
+    private void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    private static final class Snapshot {
+        final Map<Short, CrimeType> byId = new TreeMap<>();
+        final Map<String, CrimeType> byName = new HashMap<>();
+
+        Snapshot(List<CrimeType> types) {
+            for (CrimeType type : types) {
+                byId.put(type.getId(), type);
+                byName.put(type.getName(), type);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Hands the client a signed last-write token (X-Last-Write) after it writes, so
+ * whichever instance serves its next reads can keep them on the primary until
+ * replication has had time to catch up. Tokens are "epochMillis.signature",
+ * signed with a key shared by all instances; clients can replay a token until
+ * it expires but cannot mint or extend one.
+ */
+@Service
+public class ReadYourWritesTracker {
+
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+
+    private static final Logger log = LoggerFactory.getLogger(ReadYourWritesTracker.class);
+    private static final String HMAC = "HmacSHA256";
+
+    private final long windowMs;
+    private final SecretKeySpec key;
+
+    public ReadYourWritesTracker(
+            @Value("${app.datasource.replica.read-your-writes-ms:5000}") long windowMs,
+            @Value("${app.datasource.replica.read-your-writes-secret:}") String secret,
+            @Value("${app.datasource.replica.url:}") String replicaUrl) {
+        this.windowMs = windowMs;
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            // Still correct on a single instance; other instances just fall back to the replica.
+            // Without a replica every read goes to the primary anyway, so there is nothing to warn about.
+            if (replicaUrl != null && !replicaUrl.isBlank()) {
+                log.warn("app.datasource.replica.read-your-writes-secret is not set; "
+                        + "last-write tokens are only honoured by this instance");
+            }
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, HMAC);
+    }
+
+    // Issues a fresh token on the current response once the surrounding transaction commits
+    public void recordWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            issueToCurrentResponse();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                issueToCurrentResponse();
+            }
+        });
+    }
+
+    public boolean isWithinWindow(String token) {
+        if (token == null) {
+            return false;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return false;
+        }
+        long writtenAt;
+        try {
+            writtenAt = Long.parseLong(token.substring(0, dot));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        byte[] expected = sign(writtenAt).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+        // Window applies both ways to tolerate clock skew between instances
+        return MessageDigest.isEqual(expected, actual)
+                && Math.abs(System.currentTimeMillis() - writtenAt) <= windowMs;
+    }
+
+    String issueToken(long writtenAt) {
+        return writtenAt + "." + sign(writtenAt);
+    }
+
+    private void issueToCurrentResponse() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                response.setHeader(LAST_WRITE_HEADER, issueToken(System.currentTimeMillis()));
+            }
+        }
+    }
+
+    private String sign(long writtenAt) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            byte[] signature = mac.doFinal(Long.toString(writtenAt).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.demo.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.model.UserCrimeSummary;
+import com.example.demo.repository.ArchivedCrimeRepository;
+import com.example.demo.repository.CrimeRepository;
+import com.example.demo.repository.UserCrimeSummaryRepository;
+import com.example.demo.repository.UserRepository;
+
+/**
+ * Maintains {@link UserCrimeSummary} rows. Every user gets a row when they
+ * register (V6 backfilled existing users), and writes apply deltas to it in
+ * place. Rows are only ever created on write paths. A user who still has no row gets one rebuilt from crimes and
+ * crimes_archive through an insert that falls back to applying the delta, so
+ * a rebuild never overwrites a row another transaction created.
+ */
+@Service
+public class UserCrimeSummaryService {
+
+    private final UserCrimeSummaryRepository summaryRepository;
+    private final CrimeRepository crimeRepository;
+    private final ArchivedCrimeRepository archivedCrimeRepository;
+    private final UserRepository userRepository;
+
+    public UserCrimeSummaryService(UserCrimeSummaryRepository summaryRepository,
+                                   CrimeRepository crimeRepository,
+                                   ArchivedCrimeRepository archivedCrimeRepository,
+                                   UserRepository userRepository) {
+        this.summaryRepository = summaryRepository;
+        this.crimeRepository = crimeRepository;
+        this.archivedCrimeRepository = archivedCrimeRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Read-only: a user without a stored row (possible only if they were
+     * inserted outside registration) gets counts computed on the fly and
+     * nothing is written; the row is created by their next write. Empty for
+     * unknown users.
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserCrimeSummary> getSummary(Long userId) {
+        Optional<UserCrimeSummary> stored = summaryRepository.findById(userId);
+        if (stored.isPresent() || !userRepository.existsById(userId)) {
+            return stored;
+        }
+        Delta counts = countCrimes(userId);
+        UserCrimeSummary summary = new UserCrimeSummary(userId);
+        summary.setTotalCount(counts.total);
+        summary.setPendingCount(counts.pending);
+        summary.setUnderInvestigationCount(counts.underInvestigation);
+        summary.setResolvedCount(counts.resolved);
+        summary.setOtherCount(counts.other);
+        crimeRepository.findFirstByReportedBy_IdOrderByIdDesc(userId).ifPresent(latest -> {
+            summary.setLatestCrimeId(latest.getId());
+            summary.setLatestReportedAt(latest.getReportedAt());
+        });
+        return Optional.of(summary);
+    }
+
+    // Called in the registration transaction, before the user can report anything
+    @Transactional
+    public void createForNewUser(Long userId) {
+        summaryRepository.insertOrApplyDelta(userId, 0, 0, 0, 0, 0, null, null, 0, 0, 0, 0, 0);
+    }
+
+    @Transactional
+    public void recordNewCrime(Crime crime) {
+        if (crime.getReportedBy() == null || crime.getReportedBy().getId() == null) {
+            return;
+        }
+        Long userId = crime.getReportedBy().getId();
+        Delta delta = new Delta();
+        delta.add(crime.getStatus(), 1);
+        apply(userId, delta);
+        summaryRepository.advanceLatest(userId, crime.getId(), crime.getReportedAt());
+    }
+
+    /**
+     * Applies a single status change that moved the crime from fromVersion to
+     * fromVersion + 1. The replaced status is looked up in the status log inside
+     * the same UPDATE, so the crime row is never read first.
+     */
+    @Transactional
+    public void recordStatusChange(Long crimeId, long fromVersion, CrimeStatus toStatus) {
+        if (summaryRepository.applyStatusTransition(crimeId, fromVersion, toStatus.getCode()) == 0) {
+            // No row yet: the rebuild runs after the update, so it already counts the new status
+            crimeRepository.findReporterIdById(crimeId).ifPresent(userId -> apply(userId, new Delta()));
+        }
+    }
+
+    /**
+     * Applies a bulk status change. Rows are (reporter id, previous status, count),
+     * read from the locked rows before the update.
+     */
+    @Transactional
+    public void recordStatusChanges(List<Object[]> reporterStatusCounts, CrimeStatus toStatus) {
+        Map<Long, Delta> deltas = new TreeMap<>();
+        for (Object[] row : reporterStatusCounts) {
+            long count = ((Number) row[2]).longValue();
+            Delta delta = deltas.computeIfAbsent((Long) row[0], id -> new Delta());
+            delta.add((CrimeStatus) row[1], -count);
+            delta.add(toStatus, count);
+        }
+        deltas.forEach(this::apply);
+    }
+
+    /**
+     * Applies a deletion. Rows are captured before the delete, as for
+     * {@link #recordStatusChanges}; users whose latest report was deleted get
+     * it recomputed. Rows are updated in user id order so concurrent bulk
+     * chunks never lock two summaries in opposite orders.
+     */
+    @Transactional
+    public void recordDeletions(List<Object[]> reporterStatusCounts, Collection<Long> deletedIds) {
+        Map<Long, Delta> deltas = new TreeMap<>();
+        for (Object[] row : reporterStatusCounts) {
+            deltas.computeIfAbsent((Long) row[0], id -> new Delta())
+                    .add((CrimeStatus) row[1], -((Number) row[2]).longValue());
+        }
+        deltas.forEach((userId, delta) -> {
+            apply(userId, delta);
+            summaryRepository.findById(userId)
+                    .filter(summary -> deletedIds.contains(summary.getLatestCrimeId()))
+                    .ifPresent(summary -> refreshLatest(userId));
+        });
+    }
+
+    private void apply(Long userId, Delta delta) {
+        int updated = summaryRepository.applyDelta(userId, delta.total, delta.pending,
+                delta.underInvestigation, delta.resolved, delta.other);
+        if (updated == 0) {
+            createIfAbsent(userId, delta);
+        }
+    }
+
+    private void refreshLatest(Long userId) {
+        crimeRepository.findFirstByReportedBy_IdOrderByIdDesc(userId).ifPresentOrElse(
+                latest -> summaryRepository.setLatest(userId, latest.getId(), latest.getReportedAt()),
+                () -> summaryRepository.setLatest(userId, null, null));
+    }
+
+    /**
+     * Inserts a row rebuilt from this transaction's view of crimes and
+     * crimes_archive, which already includes the caller's own write. If another
+     * transaction created the row in the meantime, only the caller's delta is
+     * applied to it instead: that row cannot have counted a write that was
+     * still uncommitted when it was built.
+     */
+    private void createIfAbsent(Long userId, Delta delta) {
+        Delta rebuilt = countCrimes(userId);
+        Crime latest = crimeRepository.findFirstByReportedBy_IdOrderByIdDesc(userId).orElse(null);
+        summaryRepository.insertOrApplyDelta(userId,
+                rebuilt.total, rebuilt.pending, rebuilt.underInvestigation, rebuilt.resolved, rebuilt.other,
+                latest != null ? latest.getId() : null, latest != null ? latest.getReportedAt() : null,
+                delta.total, delta.pending, delta.underInvestigation, delta.resolved, delta.other);
+    }
+
+    private Delta countCrimes(Long userId) {
+        Delta counts = new Delta();
+        crimeRepository.countByStatusForUser(userId)
+                .forEach(row -> counts.add((CrimeStatus) row[0], ((Number) row[1]).longValue()));
+        archivedCrimeRepository.countByStatusForUser(userId)
+                .forEach(row -> counts.add((CrimeStatus) row[0], ((Number) row[1]).longValue()));
+        return counts;
+    }
+
+    private static class Delta {
+        long total;
+        long pending;
+        long underInvestigation;
+        long resolved;
+        long other;
+
+        void add(CrimeStatus status, long count) {
+            total += count;
+            if (status == null) {
+                other += count;
+                return;
+            }
+            switch (status) {
+                case PENDING -> pending += count;
+                case UNDER_INVESTIGATION -> underInvestigation += count;
+                case RESOLVED -> resolved += count;
+            }
+        }
+    }
+}
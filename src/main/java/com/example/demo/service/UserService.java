@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
@@ -13,18 +14,22 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final UserCrimeSummaryService summaryService;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserCrimeSummaryService summaryService) {
         this.userRepository = userRepository;
+        this.summaryService = summaryService;
         this.passwordEncoder = new BCryptPasswordEncoder();
     }
 
     // Add the missing method for getting user by ID
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         return userRepository.findById(id).orElse(null);
     }
 
-    // Register a new user
+    // Register a new user (with an empty crime summary, created in the same transaction)
+    @Transactional
     public User registerUser(String email, String password, String name) {
         Optional<User> existingUser = userRepository.findByEmail(email);
         
@@ -36,11 +41,13 @@ public class UserService {
         newUser.setEmail(email);
         newUser.setPassword(passwordEncoder.encode(password)); // Encrypt password
         newUser.setName(name != null ? name : "Unknown User"); // Ensure name is not null
-        return userRepository.save(newUser);
+        User saved = userRepository.save(newUser);
+        summaryService.createForNewUser(saved.getId());
+        return saved;
     }
     
 
-    // User Login
+    // User Login (kept on the primary so a login right after registering never misses the new row)
     public User loginUser(String email, String password) {
         Optional<User> userOptional = userRepository.findByEmail(email);
 
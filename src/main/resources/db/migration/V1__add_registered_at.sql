@@ -1,2 +0,0 @@
-ALTER TABLE users
-ADD COLUMN registered_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP; 
\ No newline at end of file
@@ -23,6 +23,3 @@ CREATE TABLE IF NOT EXISTS crimes (
     reported_by BIGINT,
     CONSTRAINT fk_crime_user FOREIGN KEY (reported_by) REFERENCES users(id)
 );
-
--- Add any other existing tables below
--- ... rest of schema ... 
\ No newline at end of file
@@ -0,0 +1,17 @@
+ALTER TABLE crimes
+ADD COLUMN status_updated_at TIMESTAMP NULL;
+
+CREATE TABLE IF NOT EXISTS crimes_archive (
+    id BIGINT PRIMARY KEY,
+    crime_type VARCHAR(255),
+    description TEXT,
+    location VARCHAR(255),
+    latitude DOUBLE NOT NULL,
+    longitude DOUBLE NOT NULL,
+    reported_at TIMESTAMP NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    status_updated_at TIMESTAMP NULL,
+    archived_at TIMESTAMP NOT NULL,
+    reported_by BIGINT NOT NULL,
+    CONSTRAINT fk_crime_archive_user FOREIGN KEY (reported_by) REFERENCES users(id)
+);
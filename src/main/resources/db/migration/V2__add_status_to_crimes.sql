@@ -1,3 +0,0 @@
-ALTER TABLE crimes
-ADD COLUMN IF NOT EXISTS status VARCHAR(50) NOT NULL DEFAULT 'PENDING';
-
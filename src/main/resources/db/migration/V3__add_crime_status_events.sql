@@ -0,0 +1,13 @@
+ALTER TABLE crimes
+ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS crime_status_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    crime_id BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    changed_by VARCHAR(255),
+    changed_at TIMESTAMP NOT NULL,
+    crime_version BIGINT NOT NULL
+);
+
+CREATE INDEX idx_crime_status_events_crime ON crime_status_events (crime_id, id);
@@ -0,0 +1,13 @@
+CREATE INDEX idx_crimes_reported_by ON crimes (reported_by, id);
+
+-- One row per user: created at registration, backfilled for existing users by V6
+CREATE TABLE IF NOT EXISTS user_crime_summaries (
+    user_id BIGINT PRIMARY KEY,
+    total_count BIGINT NOT NULL DEFAULT 0,
+    pending_count BIGINT NOT NULL DEFAULT 0,
+    under_investigation_count BIGINT NOT NULL DEFAULT 0,
+    resolved_count BIGINT NOT NULL DEFAULT 0,
+    other_count BIGINT NOT NULL DEFAULT 0,
+    latest_crime_id BIGINT,
+    latest_reported_at TIMESTAMP NULL
+);
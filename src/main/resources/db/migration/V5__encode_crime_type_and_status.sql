@@ -0,0 +1,62 @@
+-- Managed crime type dictionary; crimes keep only the small id
+CREATE TABLE IF NOT EXISTS crime_types (
+    id SMALLINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+INSERT INTO crime_types (name) VALUES
+    ('Vandalism/तोड़फोड़'),
+    ('Kidnapping/अपहरण'),
+    ('Murder/हत्या'),
+    ('Theft/चोरी'),
+    ('Assault/हमला'),
+    ('Fraud/धोखाधड़ी'),
+    ('Robbery/डकैती'),
+    ('Arson/आगजनी'),
+    ('Other/अन्य');
+
+-- Free-form types already on file are kept, but inactive for new reports
+INSERT INTO crime_types (name, active)
+SELECT DISTINCT legacy.crime_type, FALSE
+FROM (
+    SELECT crime_type FROM crimes
+    UNION
+    SELECT crime_type FROM crimes_archive
+) legacy
+WHERE legacy.crime_type IS NOT NULL
+  AND legacy.crime_type NOT IN (SELECT name FROM crime_types);
+
+ALTER TABLE crimes ADD COLUMN crime_type_id SMALLINT;
+UPDATE crimes c SET crime_type_id = (SELECT t.id FROM crime_types t WHERE t.name = c.crime_type);
+ALTER TABLE crimes DROP COLUMN crime_type;
+ALTER TABLE crimes ADD CONSTRAINT fk_crime_type FOREIGN KEY (crime_type_id) REFERENCES crime_types(id);
+CREATE INDEX idx_crimes_type ON crimes (crime_type_id);
+
+ALTER TABLE crimes_archive ADD COLUMN crime_type_id SMALLINT;
+UPDATE crimes_archive a SET crime_type_id = (SELECT t.id FROM crime_types t WHERE t.name = a.crime_type);
+ALTER TABLE crimes_archive DROP COLUMN crime_type;
+
+-- Status as CrimeStatus codes: 0 PENDING, 1 UNDER_INVESTIGATION, 2 RESOLVED.
+-- Anything else on file was never a valid status and falls back to PENDING.
+ALTER TABLE crimes ADD COLUMN status_code TINYINT NOT NULL DEFAULT 0;
+UPDATE crimes SET status_code = CASE UPPER(status)
+    WHEN 'UNDER_INVESTIGATION' THEN 1
+    WHEN 'RESOLVED' THEN 2
+    ELSE 0 END;
+ALTER TABLE crimes DROP COLUMN status;
+CREATE INDEX idx_crimes_status ON crimes (status_code, status_updated_at);
+
+ALTER TABLE crimes_archive ADD COLUMN status_code TINYINT NOT NULL DEFAULT 2;
+UPDATE crimes_archive SET status_code = CASE UPPER(status)
+    WHEN 'PENDING' THEN 0
+    WHEN 'UNDER_INVESTIGATION' THEN 1
+    ELSE 2 END;
+ALTER TABLE crimes_archive DROP COLUMN status;
+
+ALTER TABLE crime_status_events ADD COLUMN status_code TINYINT NOT NULL DEFAULT 0;
+UPDATE crime_status_events SET status_code = CASE UPPER(status)
+    WHEN 'UNDER_INVESTIGATION' THEN 1
+    WHEN 'RESOLVED' THEN 2
+    ELSE 0 END;
+ALTER TABLE crime_status_events DROP COLUMN status;
@@ -0,0 +1,29 @@
+-- Every user gets a summary row up front, so concurrent first reports only ever
+-- increment an existing row instead of racing to create it
+INSERT INTO user_crime_summaries (user_id, total_count, pending_count, under_investigation_count,
+                                  resolved_count, other_count, latest_crime_id, latest_reported_at)
+SELECT u.id,
+       COUNT(x.status_code),
+       COALESCE(SUM(CASE WHEN x.status_code = 0 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN x.status_code = 1 THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN x.status_code = 2 THEN 1 ELSE 0 END), 0),
+       0,
+       (SELECT MAX(c.id) FROM crimes c WHERE c.reported_by = u.id),
+       (SELECT c.reported_at FROM crimes c WHERE c.reported_by = u.id ORDER BY c.id DESC LIMIT 1)
+FROM users u
+LEFT JOIN (
+    SELECT reported_by, status_code FROM crimes
+    UNION ALL
+    SELECT reported_by, status_code FROM crimes_archive
+) x ON x.reported_by = u.id
+WHERE NOT EXISTS (SELECT 1 FROM user_crime_summaries s WHERE s.user_id = u.id)
+GROUP BY u.id;
+
+-- Every crime gets a status event for its current version, so the status a
+-- transition replaces can be read from the log instead of the crime row
+INSERT INTO crime_status_events (crime_id, status_code, changed_by, changed_at, crime_version)
+SELECT c.id, c.status_code, NULL, COALESCE(c.status_updated_at, c.reported_at, CURRENT_TIMESTAMP), c.version
+FROM crimes c
+WHERE NOT EXISTS (
+    SELECT 1 FROM crime_status_events e WHERE e.crime_id = c.id AND e.crime_version = c.version
+);
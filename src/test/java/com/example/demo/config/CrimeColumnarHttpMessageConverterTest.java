@@ -0,0 +1,167 @@
+package com.example.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+
+class CrimeColumnarHttpMessageConverterTest {
+
+    private static final ZoneId PLUS_FIVE_THIRTY = ZoneId.of("Asia/Kolkata");
+
+    private final CrimeColumnarHttpMessageConverter converter = new CrimeColumnarHttpMessageConverter();
+
+    @Test
+    void writesDocumentedLayout() throws Exception {
+        LocalDateTime reportedAt = LocalDateTime.of(2024, 3, 1, 10, 30);
+        List<Crime> crimes = List.of(
+                crime(7L, "Theft/चोरी", CrimeStatus.PENDING, 28.5, 77.25, reportedAt),
+                crime(9L, "Assault/हमला", CrimeStatus.RESOLVED, null, null, null),
+                crime(12L, "Theft/चोरी", CrimeStatus.RESOLVED, -1.5, 2.0, reportedAt.plusHours(1)));
+
+        ByteBuffer in = write(crimes);
+
+        byte[] magic = new byte[4];
+        in.get(magic);
+        assertArrayEquals("CRC1".getBytes(StandardCharsets.US_ASCII), magic);
+        int n = in.getInt();
+        assertEquals(3, n);
+        assertEquals(List.of("Theft/चोरी", "Assault/हमला"), readDictionary(in));
+        assertEquals(List.of("PENDING", "RESOLVED"), readDictionary(in));
+        in.position((in.position() + 7) & ~7);
+
+        assertEquals(0, in.position() % 8);
+        assertEquals(7L, in.getLong());
+        assertEquals(9L, in.getLong());
+        assertEquals(12L, in.getLong());
+        assertEquals(28.5f, in.getFloat());
+        assertTrue(Float.isNaN(in.getFloat()));
+        assertEquals(-1.5f, in.getFloat());
+        assertEquals(77.25f, in.getFloat());
+        assertTrue(Float.isNaN(in.getFloat()));
+        assertEquals(2.0f, in.getFloat());
+        assertEquals(epochSeconds(reportedAt), Integer.toUnsignedLong(in.getInt()));
+        assertEquals(0, in.getInt());
+        assertEquals(epochSeconds(reportedAt.plusHours(1)), Integer.toUnsignedLong(in.getInt()));
+        assertEquals(0, in.getShort());
+        assertEquals(1, in.getShort());
+        assertEquals(0, in.getShort());
+        assertEquals(0, in.get());
+        assertEquals(1, in.get());
+        assertEquals(1, in.get());
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void reportedAtIsEncodedInTheServerZone() throws Exception {
+        ZoneId original = ZoneId.systemDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone(PLUS_FIVE_THIRTY));
+        try {
+            LocalDateTime reportedAt = LocalDateTime.of(2024, 3, 1, 10, 30);
+            ByteBuffer in = write(List.of(crime(1L, "Theft/चोरी", CrimeStatus.PENDING, 1.0, 2.0, reportedAt)));
+
+            int reportedAtOffset = columnsStart(in) + 8 + 4 + 4;
+            assertEquals(reportedAt.atZone(PLUS_FIVE_THIRTY).toEpochSecond(),
+                    Integer.toUnsignedLong(in.getInt(reportedAtOffset)));
+        } finally {
+            TimeZone.setDefault(TimeZone.getTimeZone(original));
+        }
+    }
+
+    @Test
+    void acceptsCrimeListsAndResponseEntityBodies() {
+        Type crimeList = ResolvableType.forClassWithGenerics(List.class, Crime.class).getType();
+        Type stringList = ResolvableType.forClassWithGenerics(List.class, String.class).getType();
+        Type objectList = ResolvableType.forClassWithGenerics(List.class, Object.class).getType();
+
+        assertTrue(converter.canWrite(crimeList, List.class, CrimeColumnarHttpMessageConverter.CRIME_COLUMNS));
+        assertFalse(converter.canWrite(stringList, List.class, CrimeColumnarHttpMessageConverter.CRIME_COLUMNS));
+        assertFalse(converter.canWrite(objectList, List.class, CrimeColumnarHttpMessageConverter.CRIME_COLUMNS));
+        // What a ResponseEntity<?> endpoint hands the converter: the body's runtime class only
+        assertTrue(converter.canWrite(ArrayList.class, ArrayList.class,
+                CrimeColumnarHttpMessageConverter.CRIME_COLUMNS));
+        assertFalse(converter.canWrite(Map.class, Map.class, CrimeColumnarHttpMessageConverter.CRIME_COLUMNS));
+        assertFalse(converter.canWrite(crimeList, List.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void rejectsCollectionsOfOtherElements() {
+        List<Object> notCrimes = List.of(Map.of("error", "x"));
+
+        assertThrows(HttpMessageNotWritableException.class, () -> write(notCrimes));
+    }
+
+    @Test
+    void rejectsReportedAtOutsideTheUint32Column() {
+        Crime beforeEpoch = crime(1L, "Theft/चोरी", CrimeStatus.PENDING, 1.0, 2.0, LocalDateTime.of(1960, 1, 1, 0, 0));
+        Crime past2106 = crime(2L, "Theft/चोरी", CrimeStatus.PENDING, 1.0, 2.0, LocalDateTime.of(2107, 1, 1, 0, 0));
+
+        assertThrows(HttpMessageNotWritableException.class, () -> write(List.of(beforeEpoch)));
+        assertThrows(HttpMessageNotWritableException.class, () -> write(List.of(past2106)));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private ByteBuffer write(List<?> body) throws Exception {
+        MockHttpOutputMessage out = new MockHttpOutputMessage();
+        converter.write((List) body, ArrayList.class, CrimeColumnarHttpMessageConverter.CRIME_COLUMNS, out);
+        byte[] bytes = out.getBodyAsBytes();
+        assertEquals(bytes.length, out.getHeaders().getContentLength());
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int columnsStart(ByteBuffer in) {
+        ByteBuffer copy = in.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        copy.position(8);
+        readDictionary(copy);
+        readDictionary(copy);
+        return (copy.position() + 7) & ~7;
+    }
+
+    private static List<String> readDictionary(ByteBuffer in) {
+        int size = Short.toUnsignedInt(in.getShort());
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byte[] name = new byte[Short.toUnsignedInt(in.getShort())];
+            in.get(name);
+            names.add(new String(name, StandardCharsets.UTF_8));
+        }
+        return names;
+    }
+
+    private static long epochSeconds(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static Crime crime(Long id, String type, CrimeStatus status, Double latitude, Double longitude,
+                               LocalDateTime reportedAt) {
+        Crime crime = new Crime();
+        crime.setId(id);
+        crime.setCrimeType(type);
+        crime.setStatus(status);
+        crime.setLatitude(latitude);
+        crime.setLongitude(longitude);
+        crime.setReportedAt(reportedAt);
+        return crime;
+    }
+}
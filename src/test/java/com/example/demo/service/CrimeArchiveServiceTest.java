@@ -0,0 +1,83 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.model.ArchivedCrime;
+import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.model.User;
+import com.example.demo.repository.ArchivedCrimeRepository;
+import com.example.demo.repository.CrimeRepository;
+
+@SpringBootTest(properties = {
+        "crimes.archive.resolved-age-days=0",
+        "crimes.archive.batch-size=2",
+        "crimes.archive.batch-pause-ms=0"
+})
+@ActiveProfiles("test")
+class CrimeArchiveServiceTest {
+
+    @Autowired
+    private CrimeArchiveService archiveService;
+
+    @Autowired
+    private CrimeService crimeService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CrimeRepository crimeRepository;
+
+    @Autowired
+    private ArchivedCrimeRepository archivedCrimeRepository;
+
+    @Test
+    void movesResolvedCrimesIntoTheArchiveInBatches() throws Exception {
+        User user = userService.registerUser(UUID.randomUUID() + "@example.com", "secret", "reporter");
+        Crime first = resolved(user);
+        Crime second = resolved(user);
+        Crime third = resolved(user);
+        Crime pending = crimeService.saveCrime(newCrime(user));
+        Thread.sleep(10);
+
+        assertTrue(archiveService.archiveResolvedCrimes() >= 3);
+
+        for (Crime crime : new Crime[] {first, second, third}) {
+            assertFalse(crimeRepository.existsById(crime.getId()));
+            ArchivedCrime archived = archivedCrimeRepository.findById(crime.getId()).orElseThrow();
+            assertEquals("Theft/चोरी", archived.getCrimeType());
+            assertEquals(CrimeStatus.RESOLVED, archived.getStatus());
+            assertEquals(user.getId(), archived.getReportedBy().getId());
+            assertEquals(crime.getId(), crimeService.getCrimeById(crime.getId()).getId());
+        }
+        assertTrue(crimeRepository.existsById(pending.getId()));
+    }
+
+    private Crime resolved(User user) {
+        Crime crime = crimeService.saveCrime(newCrime(user));
+        crimeService.updateCrimeStatus(crime.getId(), CrimeStatus.RESOLVED, "admin", 0L);
+        return crime;
+    }
+
+    private static Crime newCrime(User user) {
+        Crime crime = new Crime();
+        crime.setCrimeType("Theft/चोरी");
+        crime.setDescription("test");
+        crime.setLatitude(28.6);
+        crime.setLongitude(77.2);
+        User reporter = new User();
+        reporter.setId(user.getId());
+        crime.setReportedBy(reporter);
+        return crime;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.repository.CrimeRepository;
+
+class CrimeColumnStoreTest {
+
+    private static final LocalDateTime REPORTED_AT = LocalDateTime.of(2024, 3, 1, 10, 30);
+
+    private CrimeRepository crimeRepository;
+    private CrimeTypeDictionary crimeTypeDictionary;
+    private CrimeColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        crimeRepository = mock(CrimeRepository.class);
+        crimeTypeDictionary = mock(CrimeTypeDictionary.class);
+        when(crimeTypeDictionary.codeFor("Theft")).thenReturn((short) 0);
+        when(crimeTypeDictionary.codeFor("Assault")).thenReturn((short) 1);
+        when(crimeTypeDictionary.nameFor((short) 0)).thenReturn("Theft");
+        when(crimeTypeDictionary.nameFor((short) 1)).thenReturn("Assault");
+        when(crimeTypeDictionary.maxCode()).thenReturn(1);
+        when(crimeRepository.findAllColumnRows()).thenReturn(rows(row(10, 0, 0), row(20, 1, 0), row(30, 0, 2)));
+        store = new CrimeColumnStore(crimeRepository, crimeTypeDictionary, true);
+        store.reload();
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void appendsNewIdsIntoSpareCapacity() {
+        CrimeColumnStore.Snapshot before = store.snapshot();
+
+        store.onCrimeSaved(crime(40L, "Assault"));
+
+        CrimeColumnStore.Snapshot after = store.snapshot();
+        assertSame(before.ids, after.ids);
+        assertSame(before.statusCodes, after.statusCodes);
+        assertEquals(3, before.size);
+        assertEquals(4, after.size);
+        assertArrayEquals(new long[] {10, 20, 30, 40}, store.findIds(null, null));
+        assertEquals(REPORTED_AT.atZone(ZoneId.systemDefault()).toEpochSecond(),
+                after.reportedAtEpochSeconds[3]);
+    }
+
+    @Test
+    void insertsOutOfOrderIdsIntoFreshArrays() {
+        CrimeColumnStore.Snapshot before = store.snapshot();
+
+        store.onCrimeSaved(crime(15L, "Theft"));
+
+        assertNotSame(before.ids, store.snapshot().ids);
+        assertEquals(3, before.size);
+        assertArrayEquals(new long[] {10, 20, 30}, Arrays.copyOf(before.ids, before.size));
+        assertArrayEquals(new long[] {10, 15, 20, 30}, store.findIds(null, null));
+    }
+
+    @Test
+    void statusChangesCopyOnlyTheStatusColumn() {
+        CrimeColumnStore.Snapshot before = store.snapshot();
+
+        store.onStatusChanged(List.of(20L), CrimeStatus.RESOLVED);
+
+        CrimeColumnStore.Snapshot after = store.snapshot();
+        assertNotSame(before.statusCodes, after.statusCodes);
+        assertSame(before.ids, after.ids);
+        assertEquals(CrimeStatus.PENDING.getCode(), before.statusCodes[1]);
+        assertEquals(CrimeStatus.RESOLVED.getCode(), after.statusCodes[1]);
+        assertArrayEquals(new long[] {20}, store.findIds(CrimeStatus.RESOLVED, "Assault"));
+        assertEquals(2L, store.countByStatus().get(CrimeStatus.RESOLVED));
+    }
+
+    @Test
+    void removalCompactsWithoutTouchingPublishedSnapshots() {
+        CrimeColumnStore.Snapshot before = store.snapshot();
+
+        store.onRemoved(List.of(10L, 30L, 99L));
+
+        CrimeColumnStore.Snapshot after = store.snapshot();
+        assertNotSame(before.ids, after.ids);
+        assertEquals(1, after.size);
+        assertEquals(20L, after.ids[0]);
+        assertEquals(3, before.size);
+        assertEquals(30L, before.ids[2]);
+        assertEquals(before.capacity(), after.capacity());
+    }
+
+    @Test
+    void countByTypeSkipsCodesOutsideTheDictionary() {
+        when(crimeRepository.findAllColumnRows()).thenReturn(rows(row(1, 0, 0), row(2, 1, 0), row(3, 7, 0)));
+        store.reload();
+
+        assertEquals(Map.of("Theft", 1L, "Assault", 1L), store.countByType());
+    }
+
+    @Test
+    void changesDuringAReloadApplyRightAwayAndAreReplayedOntoIt() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(crimeRepository.findAllColumnRows()).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            // The reload's read predates the commit below, so it misses crime 40 and still sees 10 as pending
+            return rows(row(10, 0, 0), row(20, 1, 0), row(30, 0, 2));
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        store.onCrimeSaved(crime(40L, "Assault"));
+        store.onStatusChanged(List.of(10L), CrimeStatus.RESOLVED);
+        List<TransactionSynchronization> hooks = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(2, hooks.size());
+        assertEquals(3, store.snapshot().size);
+
+        Thread reload = new Thread(store::reload);
+        reload.start();
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        Thread commit = new Thread(() -> hooks.forEach(TransactionSynchronization::afterCommit));
+        commit.start();
+        commit.join(5000);
+        assertFalse(commit.isAlive(), "after-commit hooks must not wait for the reload in progress");
+        assertTrue(reload.isAlive());
+        assertArrayEquals(new long[] {10, 20, 30, 40}, store.findIds(null, null));
+
+        release.countDown();
+        reload.join(5000);
+        assertFalse(reload.isAlive());
+        assertArrayEquals(new long[] {10, 20, 30, 40}, store.findIds(null, null));
+        assertArrayEquals(new long[] {10, 30}, store.findIds(CrimeStatus.RESOLVED, null));
+    }
+
+    private static Crime crime(Long id, String type) {
+        Crime crime = new Crime();
+        crime.setId(id);
+        crime.setCrimeType(type);
+        crime.setLatitude(28.6);
+        crime.setLongitude(77.2);
+        crime.setReportedAt(REPORTED_AT);
+        return crime;
+    }
+
+    private static Object[] row(long id, int typeCode, int statusCode) {
+        return new Object[] {id, 28.6, 77.2, (short) typeCode, (byte) statusCode, Timestamp.valueOf(REPORTED_AT)};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+
+import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.repository.ArchivedCrimeRepository;
+import com.example.demo.repository.CrimeRepository;
+import com.example.demo.repository.CrimeStatusEventRepository;
+
+class CrimeServiceTest {
+
+    private CrimeRepository crimeRepository;
+    private CrimeColumnStore columnStore;
+    private CrimeService crimeService;
+
+    @BeforeEach
+    void setUp() {
+        crimeRepository = mock(CrimeRepository.class);
+        columnStore = mock(CrimeColumnStore.class);
+        CrimeTypeDictionary crimeTypeDictionary = mock(CrimeTypeDictionary.class);
+        when(crimeTypeDictionary.codeFor("Theft")).thenReturn((short) 0);
+        when(crimeTypeDictionary.codeFor("Nope")).thenReturn(null);
+        crimeService = new CrimeService(crimeRepository, mock(ArchivedCrimeRepository.class),
+                mock(CrimeStatusEventRepository.class), mock(ReadYourWritesTracker.class),
+                mock(UserCrimeSummaryService.class), columnStore, crimeTypeDictionary);
+    }
+
+    @Test
+    void unknownCrimeTypeMatchesNothingFromTheSnapshot() {
+        assertMatchesNothing(true);
+    }
+
+    @Test
+    void unknownCrimeTypeMatchesNothingFromTheDatabase() {
+        assertMatchesNothing(false);
+    }
+
+    @Test
+    void knownCrimeTypeStillReachesTheQuery() {
+        when(columnStore.isReady()).thenReturn(false);
+
+        crimeService.getCrimesMatching(null, "Theft", 0, 20);
+
+        verify(crimeRepository).findMatching(any(), any(), any());
+    }
+
+    private void assertMatchesNothing(boolean snapshotReady) {
+        when(columnStore.isReady()).thenReturn(snapshotReady);
+
+        Slice<Crime> slice = crimeService.getCrimesMatching(CrimeStatus.PENDING, "Nope", 0, 20);
+
+        assertTrue(slice.getContent().isEmpty());
+        assertFalse(slice.hasNext());
+        verify(columnStore, never()).findIds(any(), anyString());
+        verify(crimeRepository, never()).findMatching(any(), any(), any());
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.exception.StaleCrimeVersionException;
+import com.example.demo.model.Crime;
+import com.example.demo.model.CrimeStatus;
+import com.example.demo.model.User;
+import com.example.demo.model.UserCrimeSummary;
+import com.example.demo.repository.CrimeRepository;
+import com.example.demo.repository.UserCrimeSummaryRepository;
+import com.example.demo.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCrimeSummaryServiceTest {
+
+    @Autowired
+    private CrimeService crimeService;
+
+    @Autowired
+    private CrimeBulkService crimeBulkService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCrimeSummaryService summaryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CrimeRepository crimeRepository;
+
+    @Autowired
+    private UserCrimeSummaryRepository summaryRepository;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentFirstReportsOfNewUsersAreAllCounted() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            users.add(userService.registerUser(uniqueEmail(), "secret", "reporter"));
+        }
+
+        List<Callable<Crime>> reports = new ArrayList<>();
+        for (User user : users) {
+            for (int i = 0; i < 6; i++) {
+                reports.add(() -> crimeService.saveCrime(newCrime(user)));
+            }
+        }
+        runTogether(reports);
+
+        for (User user : users) {
+            UserCrimeSummary summary = summaryService.getSummary(user.getId()).orElseThrow();
+            assertEquals(6, summary.getTotalCount());
+            assertEquals(6, summary.getPendingCount());
+        }
+    }
+
+    @Test
+    void userWithoutSummaryRowGetsOneRebuiltFromCrimes() {
+        User user = saveUserWithoutSummary();
+        Crime first = crimeRepository.save(newCrime(user));
+
+        Crime second = crimeService.saveCrime(newCrime(user));
+
+        UserCrimeSummary summary = summaryService.getSummary(user.getId()).orElseThrow();
+        assertEquals(2, summary.getTotalCount());
+        assertEquals(2, summary.getPendingCount());
+        assertEquals(second.getId(), summary.getLatestCrimeId());
+        assertEquals(first.getReportedBy().getId(), summary.getUserId());
+    }
+
+    @Test
+    void readingNeverCreatesSummaryRows() {
+        long unknownUserId = Long.MAX_VALUE - 7;
+        assertTrue(summaryService.getSummary(unknownUserId).isEmpty());
+        assertFalse(summaryRepository.existsById(unknownUserId));
+
+        User user = saveUserWithoutSummary();
+        crimeRepository.save(newCrime(user));
+        UserCrimeSummary computed = summaryService.getSummary(user.getId()).orElseThrow();
+        assertEquals(1, computed.getTotalCount());
+        assertEquals(1, computed.getPendingCount());
+        assertFalse(summaryRepository.existsById(user.getId()));
+    }
+
+    @Test
+    void versionedStatusChangeMovesCountWithoutReadingTheCrime() {
+        User user = userService.registerUser(uniqueEmail(), "secret", "reporter");
+        Crime crime = crimeService.saveCrime(newCrime(user));
+
+        crimeService.updateCrimeStatus(crime.getId(), CrimeStatus.RESOLVED, "admin", 0L);
+        assertThrows(StaleCrimeVersionException.class,
+                () -> crimeService.updateCrimeStatus(crime.getId(), CrimeStatus.PENDING, "admin", 0L));
+
+        UserCrimeSummary summary = summaryService.getSummary(user.getId()).orElseThrow();
+        assertEquals(1, summary.getTotalCount());
+        assertEquals(0, summary.getPendingCount());
+        assertEquals(1, summary.getResolvedCount());
+    }
+
+    @Test
+    void concurrentBulkAndSingleWritesKeepSummaryInLineWithCrimes() throws Exception {
+        User user = userService.registerUser(uniqueEmail(), "secret", "reporter");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(crimeService.saveCrime(newCrime(user)).getId());
+        }
+
+        List<Callable<Object>> writes = new ArrayList<>();
+        writes.add(() -> crimeBulkService.updateStatus(ids, null, CrimeStatus.RESOLVED, "admin"));
+        writes.add(() -> crimeBulkService.delete(ids.subList(0, 5), null));
+        for (Long id : ids.subList(5, 15)) {
+            writes.add(() -> retryOnConflict(
+                    () -> crimeService.updateCrimeStatus(id, CrimeStatus.UNDER_INVESTIGATION, "admin", null)));
+        }
+        runTogether(writes);
+
+        long pending = 0;
+        long underInvestigation = 0;
+        long resolved = 0;
+        for (Object[] row : crimeRepository.countByStatusForUser(user.getId())) {
+            long count = ((Number) row[1]).longValue();
+            switch ((CrimeStatus) row[0]) {
+                case PENDING -> pending = count;
+                case UNDER_INVESTIGATION -> underInvestigation = count;
+                case RESOLVED -> resolved = count;
+            }
+        }
+        UserCrimeSummary summary = summaryService.getSummary(user.getId()).orElseThrow();
+        assertEquals(15, summary.getTotalCount());
+        assertEquals(pending, summary.getPendingCount());
+        assertEquals(underInvestigation, summary.getUnderInvestigationCount());
+        assertEquals(resolved, summary.getResolvedCount());
+    }
+
+    private <T> void runTogether(List<? extends Callable<T>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<T> future : futures) {
+            future.get();
+        }
+    }
+
+    // Single updates without an expected version can still lose the race against the bulk chunk
+    private static Object retryOnConflict(Callable<Object> update) throws Exception {
+        while (true) {
+            try {
+                return update.call();
+            } catch (StaleCrimeVersionException e) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private User saveUserWithoutSummary() {
+        User user = new User("legacy", uniqueEmail(), "secret");
+        return userRepository.save(user);
+    }
+
+    private static Crime newCrime(User user) {
+        Crime crime = new Crime();
+        crime.setCrimeType("Theft/चोरी");
+        crime.setDescription("test");
+        crime.setLatitude(28.6);
+        crime.setLongitude(77.2);
+        User reporter = new User();
+        reporter.setId(user.getId());
+        crime.setReportedBy(reporter);
+        return crime;
+    }
+
+    private static String uniqueEmail() {
+        return UUID.randomUUID() + "@example.com";
+    }
+}